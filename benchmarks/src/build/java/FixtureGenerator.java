@@ -0,0 +1,326 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.IntFunction;
+
+/**
+ * Generates the fixtures of the benchmarks that consist of many similar services, e.g. {@code 200} weighted
+ * implementations of a contract. The services must be classes for the annotation processor to generate their
+ * descriptors, they are thus generated as sources before the compilation.
+ * <p>
+ * Run by the build: {@code java FixtureGenerator.java <output directory>}.
+ */
+class FixtureGenerator {
+
+    private static final String PACKAGE = "io.helidon.examples.inject.benchmarks";
+
+    public static void main(String[] args) throws IOException {
+        var directory = Path.of(args[0], PACKAGE.split("\\."));
+        Files.createDirectories(directory);
+        write(directory, "WeightedColors", weightedColors());
+        write(directory, "NamedColors", namedColors());
+        write(directory, "Hierarchy", hierarchy());
+        write(directory, "Observers", observers());
+        write(directory, "UnrelatedObservers", unrelatedObservers());
+    }
+
+    private static String weightedColors() {
+        return """
+                import io.helidon.common.Weight;
+                import io.helidon.service.registry.Service;
+
+                /**
+                 * Weighted services used to benchmark resolution with competing implementations.
+                 */
+                public final class WeightedColors {
+
+                    private WeightedColors() {
+                    }
+
+                    /**
+                     * A contract with {@code 20} weighted implementations.
+                     */
+                    public interface Color20 {
+                    }
+
+                    /**
+                     * A contract with {@code 200} weighted implementations.
+                     */
+                    public interface Color200 {
+                    }
+                %s%s}
+                """.formatted(
+                repeat(20, i -> """
+
+                            @Weight(%1$d)
+                            @Service.Singleton
+                            static class Color20Impl%1$d implements Color20 {
+                            }
+                        """.formatted(i)),
+                repeat(200, i -> """
+
+                            @Weight(%1$d)
+                            @Service.Singleton
+                            static class Color200Impl%1$d implements Color200 {
+                            }
+                        """.formatted(i)));
+    }
+
+    private static String namedColors() {
+        return """
+                import io.helidon.service.registry.Service;
+
+                /**
+                 * Named services used to benchmark named lookups with many implementations.
+                 */
+                public final class NamedColors {
+
+                    /**
+                     * Number of named implementations of {@link NamedColor}.
+                     */
+                    public static final int SIZE = 1000;
+
+                    private NamedColors() {
+                    }
+
+                    /**
+                     * A contract with {@value #SIZE} named implementations, named {@code color-1} to {@code color-1000}.
+                     */
+                    public interface NamedColor {
+                    }
+                %s}
+                """.formatted(
+                repeat(1000, i -> """
+
+                            @Service.Named("color-%1$d")
+                            @Service.Singleton
+                            static class Color%1$d implements NamedColor {
+                            }
+                        """.formatted(i)));
+    }
+
+    private static String hierarchy() {
+        var contracts = new StringBuilder();
+        for (int level = 2; level <= 5; level++) {
+            int parentLevel = level - 1;
+            IntFunction<String> parent = i -> parentLevel == 1 ? "Level1" : "Level%dx%d".formatted(parentLevel, i / 2);
+            contracts.append(repeat(0, (1 << parentLevel) - 1, i -> """
+
+                        /**
+                         * A contract of level {@code %1$d}.
+                         */
+                        public interface Level%1$dx%2$d extends %3$s {
+                        }
+                    """.formatted(parentLevel + 1, i, parent.apply(i))));
+        }
+        return """
+                import io.helidon.service.registry.Service;
+
+                /**
+                 * A 5-level hierarchy of contracts with {@value #SIZE} singleton implementations, used to benchmark covariant lookups.
+                 * Each contract of level {@code N} has two sub-contracts at level {@code N + 1}, and the implementations are spread
+                 * evenly across the contracts of level {@code 5}.
+                 */
+                public final class Hierarchy {
+
+                    /**
+                     * Number of implementations.
+                     */
+                    public static final int SIZE = 1000;
+
+                    private Hierarchy() {
+                    }
+
+                    /**
+                     * The root contract, level {@code 1}.
+                     */
+                    public interface Level1 {
+                    }
+                %s%s}
+                """.formatted(
+                contracts,
+                repeat(0, 999, i -> """
+
+                            @Service.Singleton
+                            static class Leaf%d implements Level5x%d {
+                            }
+                        """.formatted(i, i % 16)));
+    }
+
+    private static String observers() {
+        // observer 0 is named "1", observers 1 to 10 are named "10", observers 11 to 110 are named "100"
+        return """
+                import java.util.concurrent.CompletionStage;
+                import java.util.concurrent.atomic.LongAdder;
+
+                import io.helidon.service.registry.Event;
+                import io.helidon.service.registry.Service;
+
+                /**
+                 * Observers used to benchmark event delivery with {@code 1}, {@code 10} and {@code 100} observers.
+                 * The observers of {@code N} observers are named {@code "N"}.
+                 */
+                public final class Observers {
+
+                    /**
+                     * Number of notifications, all observers included.
+                     */
+                    public static final LongAdder NOTIFICATIONS = new LongAdder();
+
+                    private Observers() {
+                    }
+
+                    /**
+                     * An event delivered synchronously.
+                     *
+                     * @param id id
+                     */
+                    public record SyncEvent(long id) {
+                    }
+
+                    /**
+                     * An event delivered asynchronously.
+                     *
+                     * @param id id
+                     */
+                    public record AsyncEvent(long id) {
+                    }
+
+                    /**
+                     * Emitters for {@code 1}, {@code 10} and {@code 100} observers.
+                     *
+                     * @param sync1    synchronous emitter with {@code 1} observer
+                     * @param sync10   synchronous emitter with {@code 10} observers
+                     * @param sync100  synchronous emitter with {@code 100} observers
+                     * @param async1   asynchronous emitter with {@code 1} observer
+                     * @param async10  asynchronous emitter with {@code 10} observers
+                     * @param async100 asynchronous emitter with {@code 100} observers
+                     */
+                    @Service.Singleton
+                    public record Emitters(@Service.Named("1") Event.Emitter<SyncEvent> sync1,
+                                           @Service.Named("10") Event.Emitter<SyncEvent> sync10,
+                                           @Service.Named("100") Event.Emitter<SyncEvent> sync100,
+                                           @Service.Named("1") Event.Emitter<AsyncEvent> async1,
+                                           @Service.Named("10") Event.Emitter<AsyncEvent> async10,
+                                           @Service.Named("100") Event.Emitter<AsyncEvent> async100) {
+
+                        /**
+                         * Emit an event synchronously.
+                         *
+                         * @param observers number of observers
+                         * @param id        event id
+                         */
+                        public void emit(int observers, long id) {
+                            var emitter = switch (observers) {
+                                case 1 -> sync1;
+                                case 10 -> sync10;
+                                case 100 -> sync100;
+                                default -> throw new IllegalArgumentException("Unsupported number of observers: " + observers);
+                            };
+                            emitter.emit(new SyncEvent(id));
+                        }
+
+                        /**
+                         * Emit an event asynchronously.
+                         *
+                         * @param observers number of observers
+                         * @param id        event id
+                         * @return completion stage
+                         */
+                        public CompletionStage<AsyncEvent> emitAsync(int observers, long id) {
+                            var emitter = switch (observers) {
+                                case 1 -> async1;
+                                case 10 -> async10;
+                                case 100 -> async100;
+                                default -> throw new IllegalArgumentException("Unsupported number of observers: " + observers);
+                            };
+                            return emitter.emitAsync(new AsyncEvent(id));
+                        }
+                    }
+                %s}
+                """.formatted(
+                repeat(0, 110, i -> """
+
+                            @Service.Singleton
+                            static class SyncObserver%1$d {
+
+                                @Event.Observer
+                                @Service.Named("%2$d")
+                                void event(SyncEvent event) {
+                                    NOTIFICATIONS.increment();
+                                }
+                            }
+
+                            @Service.Singleton
+                            static class AsyncObserver%1$d {
+
+                                @Event.AsyncObserver
+                                @Service.Named("%2$d")
+                                void event(AsyncEvent event) {
+                                    NOTIFICATIONS.increment();
+                                }
+                            }
+                        """.formatted(i, i == 0 ? 1 : i <= 10 ? 10 : 100)));
+    }
+
+    private static String unrelatedObservers() {
+        return """
+                import io.helidon.examples.inject.EventsExample;
+                import io.helidon.service.registry.Event;
+                import io.helidon.service.registry.Service;
+
+                /**
+                 * {@value #SIZE} observers of string events that are not named {@code id}, used to benchmark the dispatch of string
+                 * events named {@code id}. Each observer is also a {@link EventsExample.Listener} with the same name, so that the
+                 * emitter and the dispatch table have the same fan-out.
+                 */
+                public final class UnrelatedObservers {
+
+                    /**
+                     * Number of observers.
+                     */
+                    public static final int SIZE = 1000;
+
+                    private UnrelatedObservers() {
+                    }
+                %s}
+                """.formatted(
+                repeat(0, 999, i -> """
+
+                            @Service.Singleton
+                            @Service.Named("other-%1$d")
+                            static class Observer%1$d implements EventsExample.Listener<String> {
+
+                                @Event.Observer
+                                @Service.Named("other-%1$d")
+                                void event(String event) {
+                                }
+
+                                @Override
+                                public void on(String event) {
+                                }
+                            }
+                        """.formatted(i)));
+    }
+
+    private static String repeat(int count, IntFunction<String> template) {
+        return repeat(1, count, template);
+    }
+
+    private static String repeat(int from, int to, IntFunction<String> template) {
+        var sb = new StringBuilder();
+        for (int i = from; i <= to; i++) {
+            sb.append(template.apply(i));
+        }
+        return sb.toString();
+    }
+
+    private static void write(Path directory, String className, String body) throws IOException {
+        Files.writeString(directory.resolve(className + ".java"), """
+                package %s;
+
+                // generated by FixtureGenerator, do not edit
+
+                %s""".formatted(PACKAGE, body));
+    }
+}
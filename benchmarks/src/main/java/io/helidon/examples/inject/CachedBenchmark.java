@@ -0,0 +1,108 @@
+package io.helidon.examples.inject;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.service.registry.ServiceRegistryManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link CachedExample.MyGreeter#sayHello(String)}, memoized by a cache of {@code 100} entries, with names
+ * drawn from a Zipf distribution over {@link #names} distinct names; {@code uncached} is a call to an instance that is
+ * not managed by the registry.
+ * The hit ratio is printed at the end of each trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class CachedBenchmark {
+
+    static final int SAMPLES = 1 << 16;
+
+    @Param({"10000"})
+    int names;
+
+    @Param({"0.8", "1.2"})
+    double skew;
+
+    ServiceRegistryManager registryManager;
+    CachedExample.MyGreeter cached;
+    CachedExample.MyGreeter uncached;
+    CachedExample.CachingInterceptor interceptor;
+    String[] samples;
+
+    /**
+     * The position of a thread in the samples.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        int index;
+
+        @Setup
+        public void setup() {
+            index = new Random().nextInt(SAMPLES);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        registryManager = ServiceRegistryManager.create();
+        var registry = registryManager.registry();
+        cached = registry.get(CachedExample.MyGreeter.class);
+        interceptor = registry.get(CachedExample.CachingInterceptor.class);
+        uncached = new CachedExample.MyGreeterImpl();
+        samples = zipf(names, skew, SAMPLES);
+    }
+
+    @TearDown
+    public void tearDown() {
+        interceptor.cache(CachedExample.MyGreeterImpl.class, "sayHello").ifPresent(cache -> System.out.printf(
+                "%nHit ratio: %.2f%n", (double) cache.hits() / (cache.hits() + cache.misses())));
+        registryManager.shutdown();
+    }
+
+    @Benchmark
+    public String cached(Cursor cursor) {
+        return cached.sayHello(samples[cursor.index++ & (SAMPLES - 1)]);
+    }
+
+    @Benchmark
+    public String uncached(Cursor cursor) {
+        return uncached.sayHello(samples[cursor.index++ & (SAMPLES - 1)]);
+    }
+
+    private static String[] zipf(int size, double skew, int count) {
+        var cdf = new double[size];
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += 1 / Math.pow(i + 1, skew);
+            cdf[i] = sum;
+        }
+        var random = new Random(42);
+        var samples = new String[count];
+        for (int i = 0; i < count; i++) {
+            int rank = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+            samples[i] = "name-" + (rank < 0 ? -rank - 1 : rank);
+        }
+        return samples;
+    }
+}
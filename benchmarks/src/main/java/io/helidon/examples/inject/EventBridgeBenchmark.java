@@ -0,0 +1,138 @@
+package io.helidon.examples.inject;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the round-trip of an event over {@link EventBridgeExample.SharedRing}, compared with a loopback socket.
+ * An echo thread sends back every event, the sample time mode reports the latency percentiles and the throughput
+ * mode the number of round-trips per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.SampleTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventBridgeBenchmark {
+
+    static final int CHANNEL = 1;
+    static final long ORIGIN = 1;
+    static final long ECHO_ORIGIN = 2;
+
+    final byte[] payload = EventJournalExample.Codec.STRING.encode("order-1234567890");
+
+    Path directory;
+    EventBridgeExample.SharedRing pings;
+    EventBridgeExample.SharedRing pongs;
+    EventBridgeExample.SharedRing.Subscription pongSubscription;
+    Thread ringEcho;
+
+    ServerSocket serverSocket;
+    Socket socket;
+    DataOutputStream socketOut;
+    DataInputStream socketIn;
+    Thread socketEcho;
+
+    volatile boolean closed;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("event-bridge");
+        pings = new EventBridgeExample.SharedRing(directory.resolve("pings"), 1024 * 1024);
+        pongs = new EventBridgeExample.SharedRing(directory.resolve("pongs"), 1024 * 1024);
+        pongSubscription = pongs.subscribe();
+        var pingSubscription = pings.subscribe();
+        ringEcho = Thread.ofPlatform().daemon().start(() -> {
+            EventBridgeExample.SharedRing.RecordHandler echo = (origin, channel, payload) -> {
+                var bytes = new byte[payload.remaining()];
+                payload.get(bytes);
+                pongs.publish(ECHO_ORIGIN, channel, bytes);
+            };
+            while (!closed) {
+                if (!pingSubscription.poll(echo)) {
+                    Thread.onSpinWait();
+                }
+            }
+        });
+
+        serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        socketEcho = Thread.ofPlatform().daemon().start(() -> {
+            try (var accepted = serverSocket.accept();
+                    var in = new DataInputStream(accepted.getInputStream());
+                    var out = new DataOutputStream(accepted.getOutputStream())) {
+                accepted.setTcpNoDelay(true);
+                while (!closed) {
+                    var bytes = new byte[in.readInt()];
+                    in.readFully(bytes);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                    out.flush();
+                }
+            } catch (IOException ignored) {
+                // closed
+            }
+        });
+        socket = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+        socket.setTcpNoDelay(true);
+        socketOut = new DataOutputStream(socket.getOutputStream());
+        socketIn = new DataInputStream(socket.getInputStream());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, InterruptedException {
+        closed = true;
+        socket.close();
+        serverSocket.close();
+        ringEcho.join();
+        socketEcho.join();
+        pings.close();
+        pongs.close();
+        try (var paths = Files.list(directory)) {
+            for (var path : paths.toList()) {
+                Files.delete(path);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public int sharedRing() {
+        pings.publish(ORIGIN, CHANNEL, payload);
+        int[] length = {-1};
+        EventBridgeExample.SharedRing.RecordHandler handler = (origin, channel, bytes) -> length[0] = bytes.remaining();
+        while (!pongSubscription.poll(handler)) {
+            Thread.onSpinWait();
+        }
+        return length[0];
+    }
+
+    @Benchmark
+    public byte[] loopbackSocket() throws IOException {
+        socketOut.writeInt(payload.length);
+        socketOut.write(payload);
+        socketOut.flush();
+        var bytes = new byte[socketIn.readInt()];
+        socketIn.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,61 @@
+package io.helidon.examples.inject;
+
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.examples.inject.benchmarks.Observers;
+import io.helidon.service.registry.ServiceRegistryManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the throughput of synchronous and asynchronous event delivery with {@code 1}, {@code 10} and
+ * {@code 100} observers.
+ * The asynchronous benchmark waits for all the observers to be notified.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventDeliveryBenchmark {
+
+    @Param({"1", "10", "100"})
+    int observers;
+
+    ServiceRegistryManager registryManager;
+    Observers.Emitters emitters;
+    long id;
+
+    @Setup
+    public void setup() {
+        registryManager = ServiceRegistryManager.create();
+        emitters = registryManager.registry().get(Observers.Emitters.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        registryManager.shutdown();
+    }
+
+    @Benchmark
+    public void sync() {
+        emitters.emit(observers, id++);
+    }
+
+    @Benchmark
+    public Object async() {
+        return emitters.emitAsync(observers, id++).toCompletableFuture().join();
+    }
+}
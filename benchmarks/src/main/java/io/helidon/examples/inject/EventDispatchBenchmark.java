@@ -0,0 +1,66 @@
+package io.helidon.examples.inject;
+
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.examples.inject.benchmarks.UnrelatedObservers;
+import io.helidon.service.registry.ServiceRegistryManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the dispatch of string events named {@code id} using {@link EventsExample.MyIdEmitter} and
+ * {@link EventsExample.MyIdDispatcher}. Both paths have the same fan-out: the {@value UnrelatedObservers#SIZE}
+ * unrelated services are registered both as observers for the emitter and as listeners for the dispatch table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventDispatchBenchmark {
+
+    ServiceRegistryManager registryManager;
+    EventsExample.MyIdEmitter emitter;
+    EventsExample.MyIdDispatcher dispatcher;
+    EventsExample.MyIdObserver observer;
+    EventsExample.MyIdListener listener;
+
+    @Setup
+    public void setup() {
+        registryManager = ServiceRegistryManager.create();
+        var registry = registryManager.registry();
+        emitter = registry.get(EventsExample.MyIdEmitter.class);
+        dispatcher = registry.get(EventsExample.MyIdDispatcher.class);
+        observer = registry.get(EventsExample.MyIdObserver.class);
+        listener = registry.get(EventsExample.MyIdListener.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        registryManager.shutdown();
+    }
+
+    @Benchmark
+    public void emitter() {
+        emitter.emit("id");
+        // do not accumulate the events
+        observer.ids.clear();
+    }
+
+    @Benchmark
+    public void dispatchTable() {
+        dispatcher.emit("id");
+        listener.ids.clear();
+    }
+}
@@ -0,0 +1,97 @@
+package io.helidon.examples.inject;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the append throughput and the replay speed of {@link EventJournalExample.EventJournal} with
+ * {@link EventsExample.MyEvent} records.
+ * <p>
+ * Appending never forces the segments to the storage device, the append journal is forced when it is closed, and
+ * its segments are deleted, after each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventJournalBenchmark {
+
+    static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+    static final int RECORDS = 100_000;
+
+    final EventJournalExample.Codec<EventsExample.MyEvent> codec = EventJournalExample.Codec.of(
+            EventsExample.MyEvent::msg, EventsExample.MyEvent::new);
+    final EventsExample.MyEvent event = new EventsExample.MyEvent("order-1234567890");
+
+    Path appendDirectory;
+    Path replayDirectory;
+    EventJournalExample.EventJournal appendJournal;
+    EventJournalExample.EventJournal replayJournal;
+
+    @Setup
+    public void setup() throws IOException {
+        replayDirectory = Files.createTempDirectory("journal-replay");
+        replayJournal = new EventJournalExample.EventJournal(replayDirectory, SEGMENT_SIZE);
+        for (int i = 0; i < RECORDS; i++) {
+            replayJournal.append(codec.encode(event));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void createAppendJournal() throws IOException {
+        appendDirectory = Files.createTempDirectory("journal-append");
+        appendJournal = new EventJournalExample.EventJournal(appendDirectory, SEGMENT_SIZE);
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteAppendJournal() throws IOException {
+        appendJournal.close();
+        delete(appendDirectory);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        replayJournal.close();
+        delete(replayDirectory);
+    }
+
+    @Benchmark
+    public void append() {
+        appendJournal.append(codec.encode(event));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void replay(Blackhole blackhole) {
+        replayJournal.replay(payload -> blackhole.consume(codec.decode(payload)));
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (var path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
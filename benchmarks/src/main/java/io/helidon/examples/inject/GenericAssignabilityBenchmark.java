@@ -0,0 +1,67 @@
+package io.helidon.examples.inject;
+
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.GenericType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link GenericsExample.Assignability} with a deep generic hierarchy, with and without cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenericAssignabilityBenchmark {
+
+    interface Level0<T> {
+    }
+
+    interface Level1<T, U> extends Level0<T> {
+    }
+
+    interface Level2<T> extends Level1<T, String> {
+    }
+
+    interface Level3<T> extends Level2<T> {
+    }
+
+    abstract static class Level4<T> implements Level3<T> {
+    }
+
+    abstract static class Level5<T, U> extends Level4<T> {
+    }
+
+    abstract static class Level6<T> extends Level5<T, Integer> {
+    }
+
+    abstract static class Level7<T> extends Level6<T> {
+    }
+
+    static class Leaf extends Level7<GenericsExample.Circle<GenericsExample.Blue>> {
+    }
+
+    final GenericType<Level0<GenericsExample.Circle<GenericsExample.Color>>> requested = new GenericType<>() { };
+    final GenericsExample.Assignability assignability = new GenericsExample.Assignability();
+
+    @Benchmark
+    public boolean uncached() {
+        return GenericsExample.Assignability.isAssignable(requested.type(), Leaf.class);
+    }
+
+    @Benchmark
+    public boolean cached() {
+        return assignability.isAssignable(requested, Leaf.class);
+    }
+}
@@ -0,0 +1,79 @@
+package io.helidon.examples.inject;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.examples.inject.benchmarks.Hierarchy;
+import io.helidon.service.registry.ServiceRegistry;
+import io.helidon.service.registry.ServiceRegistryManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks covariant lookups over a 5-level hierarchy with {@value Hierarchy#SIZE} implementations, resolved by the
+ * registry and served by {@link CovarianceExample.Hierarchy}.
+ * <p>
+ * The {@code index} benchmark measures the cost of building the index at startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HierarchyBenchmark {
+
+    @Param({"Level1", "Level3x0", "Level5x0"})
+    String contractName;
+
+    ServiceRegistryManager registryManager;
+    ServiceRegistry registry;
+    List<Hierarchy.Level1> services;
+    CovarianceExample.Hierarchy<Hierarchy.Level1> hierarchy;
+    Class<? extends Hierarchy.Level1> contract;
+
+    @Setup
+    public void setup() {
+        registryManager = ServiceRegistryManager.create();
+        registry = registryManager.registry();
+        services = registry.all(Hierarchy.Level1.class);
+        hierarchy = CovarianceExample.Hierarchy.create(Hierarchy.Level1.class, services);
+        contract = switch (contractName) {
+            case "Level1" -> Hierarchy.Level1.class;
+            case "Level3x0" -> Hierarchy.Level3x0.class;
+            case "Level5x0" -> Hierarchy.Level5x0.class;
+            default -> throw new IllegalArgumentException("Unsupported contract: " + contractName);
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        registryManager.shutdown();
+    }
+
+    @Benchmark
+    public Object registry() {
+        return registry.all(contract);
+    }
+
+    @Benchmark
+    public Object indexed() {
+        return hierarchy.all(contract);
+    }
+
+    @Benchmark
+    public Object index() {
+        return CovarianceExample.Hierarchy.create(Hierarchy.Level1.class, services);
+    }
+}
@@ -0,0 +1,194 @@
+package io.helidon.examples.inject;
+
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.examples.inject.benchmarks.InterceptionShapes;
+import io.helidon.service.registry.ServiceRegistry;
+import io.helidon.service.registry.ServiceRegistryManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the per-call overhead of interception for each shape of {@link InterceptorExample}:
+ * <ul>
+ *     <li>{@code concrete}: an intercepted concrete class, like {@link InterceptorExample.MyConcreteService}</li>
+ *     <li>{@code contract}: an interface contract, like {@link InterceptorExample.MyContractImpl}</li>
+ *     <li>{@code abstractContract}: an abstract class contract, like
+ *     {@link InterceptorExample.MyAbstractClassContractImpl}</li>
+ *     <li>{@code suppliedContract}: a supplied interface, like {@link InterceptorExample.MyContractProvider}</li>
+ *     <li>{@code delegateContract}: a supplied {@code Interception.Delegate} abstract class, like
+ *     {@link InterceptorExample.MyAbstractContractProvider}</li>
+ * </ul>
+ * Each shape is measured with {@code 0}, {@code 1} and {@code 5} no-op interceptors, {@code direct} is a call
+ * to an instance that is not managed by the registry.
+ * <p>
+ * The {@code create} benchmarks measure the interception of constructors: each lookup of a
+ * {@link io.helidon.service.registry.Service.PerLookup} service creates an instance, with {@code 0}, {@code 1} and
+ * {@code 5} constructor interceptors; {@code createDirect} creates an instance without the registry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InterceptionOverheadBenchmark {
+
+    ServiceRegistryManager registryManager;
+    ServiceRegistry registry;
+    String value = "Joe";
+    InterceptionShapes.Concrete5 direct;
+    InterceptionShapes.Concrete0 concrete0;
+    InterceptionShapes.Contract0 contract0;
+    InterceptionShapes.AbstractContract0 abstractContract0;
+    InterceptionShapes.SuppliedContract0 suppliedContract0;
+    InterceptionShapes.DelegateContract0 delegateContract0;
+    InterceptionShapes.Concrete1 concrete1;
+    InterceptionShapes.Contract1 contract1;
+    InterceptionShapes.AbstractContract1 abstractContract1;
+    InterceptionShapes.SuppliedContract1 suppliedContract1;
+    InterceptionShapes.DelegateContract1 delegateContract1;
+    InterceptionShapes.Concrete5 concrete5;
+    InterceptionShapes.Contract5 contract5;
+    InterceptionShapes.AbstractContract5 abstractContract5;
+    InterceptionShapes.SuppliedContract5 suppliedContract5;
+    InterceptionShapes.DelegateContract5 delegateContract5;
+
+    @Setup
+    public void setup() {
+        registryManager = ServiceRegistryManager.create();
+        registry = registryManager.registry();
+        // the annotations are ignored outside of the registry
+        direct = new InterceptionShapes.Concrete5();
+        concrete0 = registry.get(InterceptionShapes.Concrete0.class);
+        contract0 = registry.get(InterceptionShapes.Contract0.class);
+        abstractContract0 = registry.get(InterceptionShapes.AbstractContract0.class);
+        suppliedContract0 = registry.get(InterceptionShapes.SuppliedContract0.class);
+        delegateContract0 = registry.get(InterceptionShapes.DelegateContract0.class);
+        concrete1 = registry.get(InterceptionShapes.Concrete1.class);
+        contract1 = registry.get(InterceptionShapes.Contract1.class);
+        abstractContract1 = registry.get(InterceptionShapes.AbstractContract1.class);
+        suppliedContract1 = registry.get(InterceptionShapes.SuppliedContract1.class);
+        delegateContract1 = registry.get(InterceptionShapes.DelegateContract1.class);
+        concrete5 = registry.get(InterceptionShapes.Concrete5.class);
+        contract5 = registry.get(InterceptionShapes.Contract5.class);
+        abstractContract5 = registry.get(InterceptionShapes.AbstractContract5.class);
+        suppliedContract5 = registry.get(InterceptionShapes.SuppliedContract5.class);
+        delegateContract5 = registry.get(InterceptionShapes.DelegateContract5.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        registryManager.shutdown();
+    }
+
+    @Benchmark
+    public String direct() {
+        return direct.call(value);
+    }
+
+    @Benchmark
+    public String concrete0() {
+        return concrete0.call(value);
+    }
+
+    @Benchmark
+    public String concrete1() {
+        return concrete1.call(value);
+    }
+
+    @Benchmark
+    public String concrete5() {
+        return concrete5.call(value);
+    }
+
+    @Benchmark
+    public String contract0() {
+        return contract0.call(value);
+    }
+
+    @Benchmark
+    public String contract1() {
+        return contract1.call(value);
+    }
+
+    @Benchmark
+    public String contract5() {
+        return contract5.call(value);
+    }
+
+    @Benchmark
+    public String abstractContract0() {
+        return abstractContract0.call(value);
+    }
+
+    @Benchmark
+    public String abstractContract1() {
+        return abstractContract1.call(value);
+    }
+
+    @Benchmark
+    public String abstractContract5() {
+        return abstractContract5.call(value);
+    }
+
+    @Benchmark
+    public String suppliedContract0() {
+        return suppliedContract0.call(value);
+    }
+
+    @Benchmark
+    public String suppliedContract1() {
+        return suppliedContract1.call(value);
+    }
+
+    @Benchmark
+    public String suppliedContract5() {
+        return suppliedContract5.call(value);
+    }
+
+    @Benchmark
+    public String delegateContract0() {
+        return delegateContract0.call(value);
+    }
+
+    @Benchmark
+    public String delegateContract1() {
+        return delegateContract1.call(value);
+    }
+
+    @Benchmark
+    public String delegateContract5() {
+        return delegateContract5.call(value);
+    }
+
+    @Benchmark
+    public Object createDirect() {
+        return new InterceptionShapes.Created5();
+    }
+
+    @Benchmark
+    public Object create0() {
+        return registry.get(InterceptionShapes.Created0.class);
+    }
+
+    @Benchmark
+    public Object create1() {
+        return registry.get(InterceptionShapes.Created1.class);
+    }
+
+    @Benchmark
+    public Object create5() {
+        return registry.get(InterceptionShapes.Created5.class);
+    }
+}
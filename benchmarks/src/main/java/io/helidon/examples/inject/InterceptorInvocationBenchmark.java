@@ -0,0 +1,85 @@
+package io.helidon.examples.inject;
+
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.service.registry.ServiceRegistryManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks intercepted calls without arguments, with two arguments and with a primitive argument; invoked by the
+ * registry with an arguments array ({@link FastInterceptorExample.MyCounter}) and through specialized invokers
+ * ({@link FastInterceptorExample.MyFastCounter}).
+ * <p>
+ * Run with {@code -prof gc}: {@code gc.alloc.rate.norm} is the number of bytes allocated per call, it is {@code 0}
+ * for the specialized invokers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InterceptorInvocationBenchmark {
+
+    ServiceRegistryManager registryManager;
+    FastInterceptorExample.MyCounter counter;
+    FastInterceptorExample.MyFastCounter fastCounter;
+    String a = "Joe";
+    String b = "Jack";
+    // not a cached Long
+    long value = 1000;
+
+    @Setup
+    public void setup() {
+        registryManager = ServiceRegistryManager.create();
+        var registry = registryManager.registry();
+        counter = registry.get(FastInterceptorExample.MyCounter.class);
+        fastCounter = registry.get(FastInterceptorExample.MyFastCounter.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        registryManager.shutdown();
+    }
+
+    @Benchmark
+    public String helloArray() {
+        return counter.hello();
+    }
+
+    @Benchmark
+    public String helloSpecialized() {
+        return fastCounter.hello();
+    }
+
+    @Benchmark
+    public String minArray() {
+        return counter.min(a, b);
+    }
+
+    @Benchmark
+    public String minSpecialized() {
+        return fastCounter.min(a, b);
+    }
+
+    @Benchmark
+    public long incrementArray() {
+        return counter.increment(value);
+    }
+
+    @Benchmark
+    public long incrementSpecialized() {
+        return fastCounter.increment(value);
+    }
+}
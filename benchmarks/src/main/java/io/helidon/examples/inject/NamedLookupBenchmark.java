@@ -0,0 +1,88 @@
+package io.helidon.examples.inject;
+
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.examples.inject.benchmarks.NamedColors;
+import io.helidon.service.registry.Lookup;
+import io.helidon.service.registry.Qualifier;
+import io.helidon.service.registry.ServiceRegistry;
+import io.helidon.service.registry.ServiceRegistryManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks named lookups over {@value NamedColors#SIZE} named implementations of a contract, with and without
+ * {@link NamedExample.NameIndex}.
+ * <p>
+ * The sample time mode reports the per-lookup latency percentiles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NamedLookupBenchmark {
+
+    ServiceRegistryManager registryManager;
+    ServiceRegistry registry;
+    NamedExample.NameIndex index;
+    String[] names;
+    Lookup[] lookups;
+
+    @Setup
+    public void setup() {
+        registryManager = ServiceRegistryManager.create();
+        registry = registryManager.registry();
+        index = registry.get(NamedExample.NameIndex.class);
+        names = new String[NamedColors.SIZE];
+        lookups = new Lookup[NamedColors.SIZE];
+        for (int i = 0; i < NamedColors.SIZE; i++) {
+            names[i] = "color-" + (i + 1);
+            lookups[i] = Lookup.builder()
+                    .addContract(NamedColors.NamedColor.class)
+                    .addQualifier(Qualifier.createNamed(names[i]))
+                    .build();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        registryManager.shutdown();
+    }
+
+    /**
+     * The position of the next name to look up, per thread.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        int next;
+
+        int next() {
+            int current = next;
+            next = (current + 1) % NamedColors.SIZE;
+            return current;
+        }
+    }
+
+    @Benchmark
+    public Object registry(Cursor cursor) {
+        return registry.get(lookups[cursor.next()]);
+    }
+
+    @Benchmark
+    public Object indexed(Cursor cursor) {
+        return index.get(NamedColors.NamedColor.class, names[cursor.next()]);
+    }
+}
@@ -0,0 +1,69 @@
+package io.helidon.examples.inject;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the throughput of {@link EventsExample.PartitionedListener} with {@code 1} to {@code 16} partitions,
+ * delivering {@link EventsExample.MyOrderEvent} for {@code 1024} keys to a listener that consumes CPU.
+ * The partitions are bounded and block the producers when full, the throughput is thus bound by the delivery.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class PartitionedDeliveryBenchmark {
+
+    @Param({"1", "4", "16"})
+    int partitions;
+
+    @Param({"100"})
+    long tokens;
+
+    EventsExample.MyOrderEvent[] events;
+    EventsExample.PartitionedListener<EventsExample.MyOrderEvent> listener;
+    final AtomicLong next = new AtomicLong();
+
+    @Setup
+    public void setup() {
+        events = new EventsExample.MyOrderEvent[1024];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = new EventsExample.MyOrderEvent("order-" + i, i);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void createListener() {
+        listener = new EventsExample.PartitionedListener<>(partitions, 1024, EventsExample.MyOrderEvent::key,
+                event -> Blackhole.consumeCPU(tokens));
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeListener() {
+        listener.close();
+    }
+
+    @Benchmark
+    public void deliver() {
+        listener.on(events[(int) (next.getAndIncrement() & (events.length - 1))]);
+    }
+}
@@ -0,0 +1,144 @@
+package io.helidon.examples.inject;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.service.registry.Scopes;
+import io.helidon.service.registry.Service;
+import io.helidon.service.registry.ServiceRegistry;
+import io.helidon.service.registry.ServiceRegistryManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks {@link ServiceRegistry#get(Class)} for every scope used in the examples.
+ * <p>
+ * Run with {@code -prof gc} to get the allocation rate, or use {@link #main(String[])} to run it with an increasing
+ * number of threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegistryGetBenchmark {
+
+    ServiceRegistryManager registryManager;
+    ServiceRegistry registry;
+    PerLookupExample.MySingleton perLookupSingleton;
+
+    @Setup
+    public void setup() {
+        registryManager = ServiceRegistryManager.create();
+        registry = registryManager.registry();
+        perLookupSingleton = registry.get(PerLookupExample.MySingleton.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        registryManager.shutdown();
+    }
+
+    /**
+     * A request scope opened by each benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class RequestScope {
+
+        io.helidon.service.registry.Scope scope;
+
+        @Setup
+        public void open(RegistryGetBenchmark benchmark) {
+            var scopes = benchmark.registry.get(Scopes.class);
+            scope = scopes.createScope(Service.PerRequest.TYPE, "bench-" + Thread.currentThread().getId(), Map.of());
+        }
+
+        @TearDown
+        public void close() {
+            scope.close();
+        }
+    }
+
+    /**
+     * A custom scope shared by all benchmark threads, {@link CustomScopeExample.MyScopeControl} supports only one
+     * scope at a time.
+     */
+    @State(Scope.Benchmark)
+    public static class CustomScope {
+
+        io.helidon.service.registry.Scope scope;
+
+        @Setup
+        public void open(RegistryGetBenchmark benchmark) {
+            var scopes = benchmark.registry.get(Scopes.class);
+            scope = scopes.createScope(CustomScopeExample.MyScope.TYPE, "bench", Map.of());
+        }
+
+        @TearDown
+        public void close() {
+            scope.close();
+        }
+    }
+
+    @Benchmark
+    public Object singleton() {
+        return registry.get(SingletonExample.MySingleton.class);
+    }
+
+    @Benchmark
+    public Object perLookup() {
+        return registry.get(PerLookupExample.MyInstance.class);
+    }
+
+    @Benchmark
+    public Object perLookupSupplier() {
+        return perLookupSingleton.instance().get();
+    }
+
+    @Benchmark
+    public Object perRequest(RequestScope ignored) {
+        return registry.get(PerRequestExample.MyRequestScopeService.class);
+    }
+
+    @Benchmark
+    public Object customScope(CustomScope ignored) {
+        return registry.get(CustomScopeExample.MyScopedService.class);
+    }
+
+    /**
+     * Run the benchmarks with {@code 1} to {@code N} threads, {@code N} being the number of available processors.
+     *
+     * @param args ignored
+     * @throws RunnerException if an error occurs
+     */
+    public static void main(String[] args) throws RunnerException {
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        int threads = 1;
+        while (true) {
+            new Runner(new OptionsBuilder()
+                    .include(RegistryGetBenchmark.class.getName())
+                    .threads(threads)
+                    .addProfiler("gc")
+                    .build())
+                    .run();
+            if (threads == maxThreads) {
+                break;
+            }
+            threads = Math.min(threads * 2, maxThreads);
+        }
+    }
+}
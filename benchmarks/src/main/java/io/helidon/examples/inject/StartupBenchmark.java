@@ -0,0 +1,100 @@
+package io.helidon.examples.inject;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.service.registry.Binding;
+import io.helidon.service.registry.ServiceRegistry;
+import io.helidon.service.registry.ServiceRegistryManager;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the cold startup of the registry, i.e. creating the registry and getting the first service, with and
+ * without the application binding generated by the {@code create-application} goal of
+ * {@code helidon-service-maven-plugin}.
+ * <p>
+ * Every measurement is done in a fresh JVM. The score is the time-to-first-service, the secondary results report the
+ * number of classes loaded and the JVM uptime once the first service is obtained.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+    /**
+     * Name of the generated application binding.
+     */
+    static final String BINDING_CLASS = "io.helidon.examples.inject.ApplicationBinding";
+
+    @Param({"InjectionPointsExample", "InterceptorExample", "EventsExample"})
+    String example;
+
+    @Param({"true", "false"})
+    boolean application;
+
+    Class<?> serviceType;
+
+    /**
+     * Startup counters.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+
+        /**
+         * Number of classes loaded to get the first service.
+         */
+        public long loadedClasses;
+
+        /**
+         * Milliseconds since the JVM start when the first service is obtained.
+         */
+        public long jvmUptime;
+    }
+
+    @Setup
+    public void setup() {
+        serviceType = switch (example) {
+            case "InjectionPointsExample" -> InjectionPointsExample.Greetings.class;
+            case "InterceptorExample" -> InterceptorExample.MyConcreteService.class;
+            case "EventsExample" -> EventsExample.MyEmitter.class;
+            default -> throw new IllegalArgumentException("Unsupported example: " + example);
+        };
+    }
+
+    @Benchmark
+    public Object firstService(Counters counters) throws ReflectiveOperationException {
+        var classLoading = ManagementFactory.getClassLoadingMXBean();
+        long loaded = classLoading.getTotalLoadedClassCount();
+
+        ServiceRegistry registry = application
+                ? ServiceRegistryManager.start(binding())
+                : ServiceRegistryManager.create().registry();
+        Object service = registry.get(serviceType);
+
+        counters.loadedClasses = classLoading.getTotalLoadedClassCount() - loaded;
+        counters.jvmUptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        return service;
+    }
+
+    private static Binding binding() throws ReflectiveOperationException {
+        return (Binding) Class.forName(BINDING_CLASS)
+                .getDeclaredMethod("create")
+                .invoke(null);
+    }
+}
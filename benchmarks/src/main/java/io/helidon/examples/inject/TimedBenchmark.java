@@ -0,0 +1,66 @@
+package io.helidon.examples.inject;
+
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.service.registry.ServiceRegistryManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the overhead of {@link InterceptorExample.TimedInterceptor} on
+ * {@link InterceptorExample.MyTimedService#sayHello(String)}, with the recording of latencies enabled and
+ * disabled. The method has no other interceptor.
+ * Run with {@code -t 4} to measure the contention on the histogram.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimedBenchmark {
+
+    @Param({"true", "false"})
+    boolean timed;
+
+    ServiceRegistryManager registryManager;
+    InterceptorExample.MyTimedService service;
+    InterceptorExample.TimedHistograms histograms;
+    String name = "Joe";
+
+    @Setup
+    public void setup() {
+        registryManager = ServiceRegistryManager.create();
+        var registry = registryManager.registry();
+        service = registry.get(InterceptorExample.MyTimedService.class);
+        histograms = registry.get(InterceptorExample.TimedHistograms.class);
+        histograms.enabled(timed);
+    }
+
+    @TearDown(Level.Iteration)
+    public void reset() {
+        histograms.snapshotAndReset();
+    }
+
+    @TearDown
+    public void tearDown() {
+        registryManager.shutdown();
+    }
+
+    @Benchmark
+    public String sayHello() {
+        return service.sayHello(name);
+    }
+}
@@ -0,0 +1,84 @@
+package io.helidon.examples.inject;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.service.registry.ServiceRegistryManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the per-call cost of {@link InterceptorExample.MyServiceInterceptor} on
+ * {@link InterceptorExample.MyConcreteService#sayHello(String)}.
+ * <p>
+ * In the {@code traced} group, three threads call the traced method while one thread drains and formats the
+ * records. {@code untraced} is a call to an instance that is not managed by the registry, {@code eagerFormatting}
+ * is the cost of formatting a record at the time of the call.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TracingBenchmark {
+
+    ServiceRegistryManager registryManager;
+    InterceptorExample.MyConcreteService traced;
+    InterceptorExample.MyConcreteService untraced;
+    InterceptorExample.TraceBuffer traces;
+    String name = "Joe";
+
+    @Setup
+    public void setup() {
+        registryManager = ServiceRegistryManager.create();
+        var registry = registryManager.registry();
+        traced = registry.get(InterceptorExample.MyConcreteService.class);
+        traces = registry.get(InterceptorExample.MyServiceInterceptor.class).traces;
+        untraced = new InterceptorExample.MyConcreteService();
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("%nDropped traces: %d%n", traces.dropped());
+        registryManager.shutdown();
+    }
+
+    @Benchmark
+    @Group("traced")
+    @GroupThreads(3)
+    public String call() {
+        return traced.sayHello(name);
+    }
+
+    @Benchmark
+    @Group("traced")
+    @GroupThreads(1)
+    public int drain(Blackhole blackhole) {
+        return traces.drain(record -> blackhole.consume(record.toString()));
+    }
+
+    @Benchmark
+    public String untraced() {
+        return untraced.sayHello(name);
+    }
+
+    @Benchmark
+    public String eagerFormatting() {
+        return "%s.%s: %s".formatted(InterceptorExample.MyConcreteService.class.getName(), "sayHello",
+                Arrays.asList(name));
+    }
+}
@@ -0,0 +1,72 @@
+package io.helidon.examples.inject;
+
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.examples.inject.benchmarks.WeightedColors;
+import io.helidon.service.registry.Lookup;
+import io.helidon.service.registry.ServiceRegistry;
+import io.helidon.service.registry.ServiceRegistryManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the resolution of a contract with {@code 2}, {@code 20} and {@code 200} competing weighted
+ * implementations, with and without {@link WeightedExample.WinnerCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WeightedResolutionBenchmark {
+
+    @Param({"2", "20", "200"})
+    int implementations;
+
+    ServiceRegistryManager registryManager;
+    ServiceRegistry registry;
+    WeightedExample.WinnerCache cache;
+    Class<?> contract;
+    Lookup lookup;
+
+    @Setup
+    public void setup() {
+        registryManager = ServiceRegistryManager.create();
+        registry = registryManager.registry();
+        cache = registry.get(WeightedExample.WinnerCache.class);
+        contract = switch (implementations) {
+            case 2 -> WeightedExample.Color.class;
+            case 20 -> WeightedColors.Color20.class;
+            case 200 -> WeightedColors.Color200.class;
+            default -> throw new IllegalArgumentException("Unsupported number of implementations: " + implementations);
+        };
+        lookup = Lookup.create(contract);
+    }
+
+    @TearDown
+    public void tearDown() {
+        registryManager.shutdown();
+    }
+
+    @Benchmark
+    public Object registry() {
+        return registry.get(lookup);
+    }
+
+    @Benchmark
+    public Object cached() {
+        return cache.get(lookup);
+    }
+}
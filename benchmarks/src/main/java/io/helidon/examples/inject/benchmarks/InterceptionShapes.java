@@ -0,0 +1,406 @@
+package io.helidon.examples.inject.benchmarks;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Target;
+import java.util.function.Supplier;
+
+import io.helidon.common.Weight;
+import io.helidon.service.registry.Interception;
+import io.helidon.service.registry.InterceptionContext;
+import io.helidon.service.registry.Service;
+
+/**
+ * Intercepted services used to benchmark the overhead of interception, for each interception shape of
+ * {@code InterceptorExample} with {@code 0}, {@code 1} and {@code 5} interceptors.
+ * The intercepted methods return their argument, the intercepted constructors are empty, and the interceptors only
+ * proceed: the benchmarks measure the interception itself.
+ */
+public final class InterceptionShapes {
+
+    private InterceptionShapes() {
+    }
+
+    /**
+     * An annotation intercepted by one interceptor.
+     */
+    @Interception.Intercepted
+    @Target({ElementType.METHOD, ElementType.CONSTRUCTOR})
+    public @interface Intercepted1 {
+    }
+
+    /**
+     * An annotation intercepted by five interceptors.
+     */
+    @Interception.Intercepted
+    @Target({ElementType.METHOD, ElementType.CONSTRUCTOR})
+    public @interface Intercepted5 {
+    }
+
+    @Service.Singleton
+    @Service.NamedByType(Intercepted1.class)
+    static class Interceptor1 implements Interception.Interceptor {
+
+        @Override
+        public <V> V proceed(InterceptionContext ctx, Chain<V> chain, Object... args) throws Exception {
+            return chain.proceed(args);
+        }
+    }
+
+    @Weight(1)
+    @Service.Singleton
+    @Service.NamedByType(Intercepted5.class)
+    static class Interceptor5x1 implements Interception.Interceptor {
+
+        @Override
+        public <V> V proceed(InterceptionContext ctx, Chain<V> chain, Object... args) throws Exception {
+            return chain.proceed(args);
+        }
+    }
+
+    @Weight(2)
+    @Service.Singleton
+    @Service.NamedByType(Intercepted5.class)
+    static class Interceptor5x2 implements Interception.Interceptor {
+
+        @Override
+        public <V> V proceed(InterceptionContext ctx, Chain<V> chain, Object... args) throws Exception {
+            return chain.proceed(args);
+        }
+    }
+
+    @Weight(3)
+    @Service.Singleton
+    @Service.NamedByType(Intercepted5.class)
+    static class Interceptor5x3 implements Interception.Interceptor {
+
+        @Override
+        public <V> V proceed(InterceptionContext ctx, Chain<V> chain, Object... args) throws Exception {
+            return chain.proceed(args);
+        }
+    }
+
+    @Weight(4)
+    @Service.Singleton
+    @Service.NamedByType(Intercepted5.class)
+    static class Interceptor5x4 implements Interception.Interceptor {
+
+        @Override
+        public <V> V proceed(InterceptionContext ctx, Chain<V> chain, Object... args) throws Exception {
+            return chain.proceed(args);
+        }
+    }
+
+    @Weight(5)
+    @Service.Singleton
+    @Service.NamedByType(Intercepted5.class)
+    static class Interceptor5x5 implements Interception.Interceptor {
+
+        @Override
+        public <V> V proceed(InterceptionContext ctx, Chain<V> chain, Object... args) throws Exception {
+            return chain.proceed(args);
+        }
+    }
+
+    /**
+     * A concrete class without interceptor.
+     */
+    @Service.Singleton
+    public static class Concrete0 {
+
+        public String call(String value) {
+            return value;
+        }
+    }
+
+    /**
+     * An interface contract without interceptor.
+     */
+    public interface Contract0 {
+
+        String call(String value);
+    }
+
+    @Service.Singleton
+    static class Contract0Impl implements Contract0 {
+
+        @Override
+        public String call(String value) {
+            return value;
+        }
+    }
+
+    /**
+     * An abstract class contract without interceptor.
+     */
+    @Service.Contract
+    public abstract static class AbstractContract0 {
+
+        public abstract String call(String value);
+    }
+
+    @Service.Singleton
+    static class AbstractContract0Impl extends AbstractContract0 {
+
+        @Override
+        public String call(String value) {
+            return value;
+        }
+    }
+
+    /**
+     * A supplied interface contract without interceptor.
+     */
+    public interface SuppliedContract0 {
+
+        String call(String value);
+    }
+
+    @Service.Singleton
+    static class SuppliedContract0Provider implements Supplier<SuppliedContract0> {
+
+        @Override
+        public SuppliedContract0 get() {
+            return value -> value;
+        }
+    }
+
+    /**
+     * A supplied delegate abstract class contract without interceptor.
+     */
+    @Interception.Delegate
+    public abstract static class DelegateContract0 {
+
+        public abstract String call(String value);
+    }
+
+    @Service.Singleton
+    static class DelegateContract0Provider implements Supplier<DelegateContract0> {
+
+        @Override
+        public DelegateContract0 get() {
+            return new DelegateContract0() {
+
+                @Override
+                public String call(String value) {
+                    return value;
+                }
+            };
+        }
+    }
+
+    /**
+     * A concrete class with one interceptor.
+     */
+    @Service.Singleton
+    public static class Concrete1 {
+
+        @Intercepted1
+        public String call(String value) {
+            return value;
+        }
+    }
+
+    /**
+     * An interface contract with one interceptor.
+     */
+    public interface Contract1 {
+
+        @Intercepted1
+        String call(String value);
+    }
+
+    @Service.Singleton
+    static class Contract1Impl implements Contract1 {
+
+        @Override
+        public String call(String value) {
+            return value;
+        }
+    }
+
+    /**
+     * An abstract class contract with one interceptor.
+     */
+    @Service.Contract
+    public abstract static class AbstractContract1 {
+
+        @Intercepted1
+        public abstract String call(String value);
+    }
+
+    @Service.Singleton
+    static class AbstractContract1Impl extends AbstractContract1 {
+
+        @Override
+        public String call(String value) {
+            return value;
+        }
+    }
+
+    /**
+     * A supplied interface contract with one interceptor.
+     */
+    public interface SuppliedContract1 {
+
+        @Intercepted1
+        String call(String value);
+    }
+
+    @Service.Singleton
+    static class SuppliedContract1Provider implements Supplier<SuppliedContract1> {
+
+        @Override
+        public SuppliedContract1 get() {
+            return value -> value;
+        }
+    }
+
+    /**
+     * A supplied delegate abstract class contract with one interceptor.
+     */
+    @Interception.Delegate
+    public abstract static class DelegateContract1 {
+
+        @Intercepted1
+        public abstract String call(String value);
+    }
+
+    @Service.Singleton
+    static class DelegateContract1Provider implements Supplier<DelegateContract1> {
+
+        @Override
+        public DelegateContract1 get() {
+            return new DelegateContract1() {
+
+                @Override
+                public String call(String value) {
+                    return value;
+                }
+            };
+        }
+    }
+
+    /**
+     * A concrete class with five interceptors.
+     */
+    @Service.Singleton
+    public static class Concrete5 {
+
+        @Intercepted5
+        public String call(String value) {
+            return value;
+        }
+    }
+
+    /**
+     * An interface contract with five interceptors.
+     */
+    public interface Contract5 {
+
+        @Intercepted5
+        String call(String value);
+    }
+
+    @Service.Singleton
+    static class Contract5Impl implements Contract5 {
+
+        @Override
+        public String call(String value) {
+            return value;
+        }
+    }
+
+    /**
+     * An abstract class contract with five interceptors.
+     */
+    @Service.Contract
+    public abstract static class AbstractContract5 {
+
+        @Intercepted5
+        public abstract String call(String value);
+    }
+
+    @Service.Singleton
+    static class AbstractContract5Impl extends AbstractContract5 {
+
+        @Override
+        public String call(String value) {
+            return value;
+        }
+    }
+
+    /**
+     * A supplied interface contract with five interceptors.
+     */
+    public interface SuppliedContract5 {
+
+        @Intercepted5
+        String call(String value);
+    }
+
+    @Service.Singleton
+    static class SuppliedContract5Provider implements Supplier<SuppliedContract5> {
+
+        @Override
+        public SuppliedContract5 get() {
+            return value -> value;
+        }
+    }
+
+    /**
+     * A supplied delegate abstract class contract with five interceptors.
+     */
+    @Interception.Delegate
+    public abstract static class DelegateContract5 {
+
+        @Intercepted5
+        public abstract String call(String value);
+    }
+
+    @Service.Singleton
+    static class DelegateContract5Provider implements Supplier<DelegateContract5> {
+
+        @Override
+        public DelegateContract5 get() {
+            return new DelegateContract5() {
+
+                @Override
+                public String call(String value) {
+                    return value;
+                }
+            };
+        }
+    }
+
+    /**
+     * A service created on each lookup, without constructor interceptor.
+     */
+    @Service.PerLookup
+    public static class Created0 {
+
+        public Created0() {
+        }
+    }
+
+    /**
+     * A service created on each lookup, with one constructor interceptor.
+     */
+    @Service.PerLookup
+    public static class Created1 {
+
+        @Intercepted1
+        public Created1() {
+        }
+    }
+
+    /**
+     * A service created on each lookup, with five constructor interceptors.
+     */
+    @Service.PerLookup
+    public static class Created5 {
+
+        @Intercepted5
+        public Created5() {
+        }
+    }
+}
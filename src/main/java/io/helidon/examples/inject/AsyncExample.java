@@ -0,0 +1,192 @@
+package io.helidon.examples.inject;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.helidon.common.types.TypeName;
+import io.helidon.service.registry.Interception;
+import io.helidon.service.registry.InterceptionContext;
+import io.helidon.service.registry.Scope;
+import io.helidon.service.registry.Scopes;
+import io.helidon.service.registry.Service;
+import io.helidon.service.registry.ServiceRegistryManager;
+
+/**
+ * An example that illustrates an {@link Interception.Interceptor} that offloads methods to virtual threads.
+ */
+class AsyncExample {
+
+    /**
+     * An annotation to mark methods that are invoked on a virtual thread.
+     * The method must return a {@link CompletionStage} or a {@link Future}, the caller gets a future completed with
+     * the result or the failure of the method.
+     * <p>
+     * The scopes are not propagated to the virtual thread. The services of a scope whose handler is visible from all
+     * threads, e.g. {@link CustomScopeExample.MyScope}, can be used by the method; the services of a scope bound to
+     * the calling thread, e.g. {@link Service.PerRequest}, cannot.
+     */
+    @Interception.Intercepted
+    @Target(ElementType.METHOD)
+    @interface Async {
+    }
+
+    /**
+     * An interceptor implementation that supports {@link Async}.
+     * Whether a method is asynchronous is decided from its return type once per method, the other methods are
+     * invoked on the calling thread.
+     */
+    @Service.Singleton
+    @Service.NamedByType(Async.class)
+    static class AsyncInterceptor implements Interception.Interceptor {
+
+        private static final Set<TypeName> ASYNC_TYPES = Set.of(TypeName.create(CompletionStage.class),
+                                                                TypeName.create(CompletableFuture.class),
+                                                                TypeName.create(Future.class));
+
+        private final ElementRegistry<Boolean> async = new ElementRegistry<>(
+                (serviceType, element) -> ASYNC_TYPES.contains(element.typeName().genericTypeName()));
+        private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <V> V proceed(InterceptionContext ctx, Chain<V> chain, Object... args) throws Exception {
+            if (!async.get(ctx.serviceInfo().serviceType(), ctx.elementInfo())) {
+                // not an asynchronous method
+                return chain.proceed(args);
+            }
+            // the caller gets the failure of the method once, e.g. a single ExecutionException from Future.get()
+            var future = new CompletableFuture<>();
+            executor.execute(() -> {
+                try {
+                    var result = chain.proceed(args);
+                    if (result instanceof CompletionStage<?> stage) {
+                        stage.whenComplete((value, error) -> {
+                            if (error != null) {
+                                future.completeExceptionally(unwrap(error));
+                            } else {
+                                future.complete(value);
+                            }
+                        });
+                    } else {
+                        // a blocking future, waited for on the virtual thread
+                        future.complete(((Future<?>) result).get());
+                    }
+                } catch (ExecutionException ex) {
+                    future.completeExceptionally(unwrap(ex));
+                } catch (Throwable ex) {
+                    future.completeExceptionally(ex);
+                }
+            });
+            return (V) future;
+        }
+
+        @Service.PreDestroy
+        void close() {
+            executor.close();
+        }
+
+        private static Throwable unwrap(Throwable error) {
+            if ((error instanceof ExecutionException || error instanceof CompletionException)
+                    && error.getCause() != null) {
+                return error.getCause();
+            }
+            return error;
+        }
+    }
+
+    /**
+     * A service in the custom scope of {@link CustomScopeExample}, visible from all threads.
+     */
+    @CustomScopeExample.MyScope
+    static class MyRequestContext {
+
+        final String id = UUID.randomUUID().toString();
+    }
+
+    /**
+     * A contract with asynchronous methods.
+     */
+    interface MySlowService {
+
+        @Async
+        CompletionStage<String> fetch(String key);
+
+        @Async
+        Future<String> fetchLegacy(String key);
+    }
+
+    /**
+     * A service that implements a contract with asynchronous methods, with blocking implementations.
+     */
+    @Service.Singleton
+    static class MySlowServiceImpl implements MySlowService {
+
+        /**
+         * Duration of a call, in milliseconds.
+         */
+        static final long LATENCY = 200;
+
+        private final Supplier<MyRequestContext> requestContext;
+
+        MySlowServiceImpl(Supplier<MyRequestContext> requestContext) {
+            this.requestContext = requestContext;
+        }
+
+        @Override
+        public CompletionStage<String> fetch(String key) {
+            return CompletableFuture.completedFuture(load(key));
+        }
+
+        @Override
+        public Future<String> fetchLegacy(String key) {
+            // a future of a blocking API, its failures are wrapped in an ExecutionException
+            var task = new FutureTask<>(() -> load(key));
+            task.run();
+            return task;
+        }
+
+        private String load(String key) {
+            if (key.isBlank()) {
+                throw new IllegalArgumentException("Blank key");
+            }
+            try {
+                // blocking work, e.g. a remote call
+                TimeUnit.MILLISECONDS.sleep(LATENCY);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+            return "%s@%s".formatted(key, requestContext.get().id);
+        }
+    }
+
+    public static void main(String[] args) {
+        var registry = ServiceRegistryManager.create().registry();
+        var mySlowService = registry.get(MySlowService.class);
+        var scopes = registry.get(Scopes.class);
+
+        try (Scope ignored = scopes.createScope(CustomScopeExample.MyScope.TYPE, "request-1", Map.of())) {
+            long start = System.nanoTime();
+            var futures = new ArrayList<CompletableFuture<String>>();
+            for (int i = 0; i < 10; i++) {
+                futures.add(mySlowService.fetch("key-" + i).toCompletableFuture());
+            }
+            futures.forEach(future -> System.out.println(future.join()));
+            System.out.printf("10 calls in %dms%n", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+}
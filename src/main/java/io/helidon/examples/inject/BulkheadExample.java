@@ -0,0 +1,385 @@
+package io.helidon.examples.inject;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Target;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.helidon.common.types.TypeName;
+import io.helidon.common.types.TypedElementInfo;
+import io.helidon.service.registry.Interception;
+import io.helidon.service.registry.InterceptionContext;
+import io.helidon.service.registry.Service;
+import io.helidon.service.registry.ServiceRegistryManager;
+
+/**
+ * An example that illustrates an {@link Interception.Interceptor} that limits the concurrency of methods.
+ */
+class BulkheadExample {
+
+    /**
+     * An annotation to mark methods whose concurrent invocations are limited.
+     * Invocations over the limit wait in a bounded queue, invocations that do not fit in the queue are rejected with a
+     * {@link BulkheadFullException}. For methods that return a {@link java.util.concurrent.CompletionStage}, only the
+     * invocation that creates the stage is limited.
+     */
+    @Interception.Intercepted
+    @Target(ElementType.METHOD)
+    @interface Bulkhead {
+
+        /**
+         * Maximum number of concurrent invocations.
+         *
+         * @return maximum concurrency
+         */
+        int maxConcurrent() default 10;
+
+        /**
+         * Maximum number of invocations waiting for a permit.
+         *
+         * @return maximum queue size
+         */
+        int maxQueue() default 0;
+
+        /**
+         * Whether the limit adapts to the observed latency, between {@code 1} and {@link #maxConcurrent()}.
+         *
+         * @return {@code true} if adaptive
+         */
+        boolean adaptive() default false;
+    }
+
+    /**
+     * Thrown when an invocation is rejected by a {@link Bulkhead}.
+     */
+    static final class BulkheadFullException extends IllegalStateException {
+
+        BulkheadFullException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * A concurrency limiter with a bounded queue; the waiting invocations are not strictly ordered.
+     * <p>
+     * In adaptive mode the limit follows a Vegas-style algorithm: the queueing in the downstream is estimated as
+     * {@code limit * (1 - minRtt / rtt)}, the limit is increased by one when the estimate is low and decreased by one
+     * when it is high. The limit is also decreased multiplicatively when an invocation fails because of an overload of
+     * the downstream, i.e. a timeout or a rejection (AIMD); other failures, e.g. business exceptions or interrupts, do
+     * not change the limit.
+     */
+    static final class Limiter {
+
+        private static final int MIN_RTT_RESET = 1000;
+        private static final double BACKOFF = 0.9;
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition available = lock.newCondition();
+        private final String name;
+        private final int maxConcurrent;
+        private final int maxQueue;
+        private final boolean adaptive;
+        private final LongAdder rejected = new LongAdder();
+        private volatile int limit;
+        private int inFlight;
+        private int queued;
+        private int maxInFlight;
+        private long minRtt;
+        private long samples;
+
+        /**
+         * Create a new limiter.
+         *
+         * @param name          name of the limited element, used in the error messages
+         * @param maxConcurrent maximum number of concurrent invocations
+         * @param maxQueue      maximum number of waiting invocations
+         * @param adaptive      whether the limit adapts to the observed latency
+         */
+        Limiter(String name, int maxConcurrent, int maxQueue, boolean adaptive) {
+            this.name = name;
+            this.maxConcurrent = Math.max(1, maxConcurrent);
+            this.maxQueue = Math.max(0, maxQueue);
+            this.adaptive = adaptive;
+            this.limit = this.maxConcurrent;
+        }
+
+        /**
+         * Acquire a permit, waiting in the queue if the limit is reached.
+         *
+         * @throws BulkheadFullException if the limit is reached and the queue is full
+         * @throws InterruptedException  if interrupted while waiting
+         */
+        void acquire() throws InterruptedException {
+            lock.lock();
+            try {
+                if (inFlight < limit && queued == 0) {
+                    enter();
+                    return;
+                }
+                if (queued >= maxQueue) {
+                    rejected.increment();
+                    throw new BulkheadFullException("Bulkhead full: " + name);
+                }
+                queued++;
+                try {
+                    while (inFlight >= limit) {
+                        available.await();
+                    }
+                } finally {
+                    queued--;
+                }
+                enter();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Release a permit.
+         *
+         * @param rttNanos duration of the invocation, in nanoseconds
+         * @param failure  failure of the invocation, {@code null} if it succeeded
+         */
+        void release(long rttNanos, Throwable failure) {
+            lock.lock();
+            try {
+                inFlight--;
+                int previous = limit;
+                if (adaptive) {
+                    if (failure == null) {
+                        adapt(Math.max(1, rttNanos));
+                    } else if (overload(failure)) {
+                        limit = Math.max(1, (int) (limit * BACKOFF));
+                    }
+                }
+                if (limit > previous) {
+                    available.signalAll();
+                } else {
+                    available.signal();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Get the current limit.
+         *
+         * @return limit
+         */
+        int limit() {
+            return limit;
+        }
+
+        /**
+         * Get the highest number of concurrent invocations.
+         *
+         * @return highest concurrency
+         */
+        int maxInFlight() {
+            lock.lock();
+            try {
+                return maxInFlight;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Get the number of rejected invocations.
+         *
+         * @return rejected invocations
+         */
+        long rejected() {
+            return rejected.sum();
+        }
+
+        @Override
+        public String toString() {
+            return "limit=%d, maxInFlight=%d, rejected=%d".formatted(limit(), maxInFlight(), rejected());
+        }
+
+        private static boolean overload(Throwable failure) {
+            // the overload may be the cause of the failure, e.g. of an ExecutionException
+            for (var ex = failure; ex != null; ex = ex.getCause()) {
+                if (ex instanceof TimeoutException
+                        || ex instanceof SocketTimeoutException
+                        || ex instanceof RejectedExecutionException
+                        || ex instanceof BulkheadFullException) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void enter() {
+            inFlight++;
+            maxInFlight = Math.max(maxInFlight, inFlight);
+        }
+
+        private void adapt(long rtt) {
+            samples++;
+            if (minRtt == 0 || rtt < minRtt || samples % MIN_RTT_RESET == 0) {
+                // the minimum is reset periodically, to follow a change of the baseline latency
+                minRtt = rtt;
+            }
+            double queue = limit * (1 - (double) minRtt / rtt);
+            double log = Math.max(1, Math.log10(limit));
+            if (queue < 3 * log) {
+                limit = Math.min(maxConcurrent, limit + 1);
+            } else if (queue > 6 * log) {
+                limit = Math.max(1, limit - 1);
+            }
+        }
+    }
+
+    /**
+     * An interceptor implementation that supports {@link Bulkhead}.
+     * Each intercepted method of each service has its own limiter, configured by the annotation.
+     */
+    @Service.Singleton
+    @Service.NamedByType(Bulkhead.class)
+    static class BulkheadInterceptor implements Interception.Interceptor {
+
+        private static final TypeName BULKHEAD = TypeName.create(Bulkhead.class);
+
+        private final ElementRegistry<Limiter> limiters = new ElementRegistry<>(BulkheadInterceptor::create);
+
+        @Override
+        public <V> V proceed(InterceptionContext ctx, Chain<V> chain, Object... args) throws Exception {
+            var limiter = limiters.get(ctx.serviceInfo().serviceType(), ctx.elementInfo());
+            limiter.acquire();
+            long start = System.nanoTime();
+            Throwable failure = null;
+            try {
+                return chain.proceed(args);
+            } catch (Throwable ex) {
+                failure = ex;
+                throw ex;
+            } finally {
+                limiter.release(System.nanoTime() - start, failure);
+            }
+        }
+
+        /**
+         * Get the limiter of a method.
+         *
+         * @param serviceType service type
+         * @param methodName  method name
+         * @return limiter of the first method with the given name, empty if the method was not invoked
+         */
+        Optional<Limiter> limiter(Class<?> serviceType, String methodName) {
+            return limiters.find(serviceType, methodName);
+        }
+
+        private static Limiter create(TypeName serviceType, TypedElementInfo element) {
+            var annotation = element.annotations().stream()
+                    .filter(a -> a.typeName().equals(BULKHEAD))
+                    .findFirst();
+            return new Limiter(serviceType.declaredName() + "." + element.elementName(),
+                    annotation.flatMap(a -> a.intValue("maxConcurrent")).orElse(10),
+                    annotation.flatMap(a -> a.intValue("maxQueue")).orElse(0),
+                    annotation.flatMap(a -> a.booleanValue("adaptive")).orElse(false));
+        }
+    }
+
+    /**
+     * A service that calls a slow downstream, protected by a fixed bulkhead.
+     */
+    @Service.Singleton
+    static class MyBackend {
+
+        /**
+         * Duration of a call, in milliseconds.
+         */
+        static final long LATENCY = 20;
+
+        final AtomicInteger concurrency = new AtomicInteger();
+        final AtomicInteger maxConcurrency = new AtomicInteger();
+
+        @Bulkhead(maxConcurrent = 4, maxQueue = 8)
+        String call(String request) throws InterruptedException {
+            maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+            try {
+                TimeUnit.MILLISECONDS.sleep(LATENCY);
+                return "Processed %s".formatted(request);
+            } finally {
+                concurrency.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * A service that calls a downstream whose latency grows past {@link #CAPACITY} concurrent calls, protected by an
+     * adaptive bulkhead.
+     */
+    @Service.Singleton
+    static class MyAdaptiveBackend {
+
+        /**
+         * Number of concurrent calls processed without queueing by the downstream.
+         */
+        static final int CAPACITY = 4;
+
+        /**
+         * Duration of a call without queueing, in milliseconds.
+         */
+        static final long LATENCY = 2;
+
+        final AtomicInteger concurrency = new AtomicInteger();
+
+        @Bulkhead(maxConcurrent = 32, maxQueue = 1000, adaptive = true)
+        String call(String request) throws InterruptedException {
+            int current = concurrency.incrementAndGet();
+            try {
+                TimeUnit.MILLISECONDS.sleep(LATENCY * Math.max(1, current - CAPACITY + 1));
+                return "Processed %s".formatted(request);
+            } finally {
+                concurrency.decrementAndGet();
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        var registry = ServiceRegistryManager.create().registry();
+        var myBackend = registry.get(MyBackend.class);
+        var interceptor = registry.get(BulkheadInterceptor.class);
+
+        var rejected = new AtomicInteger();
+        var futures = new ArrayList<Future<Long>>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 100; i++) {
+                int request = i;
+                futures.add(executor.submit(() -> {
+                    long start = System.nanoTime();
+                    try {
+                        myBackend.call("request-" + request);
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    } catch (BulkheadFullException ex) {
+                        rejected.incrementAndGet();
+                        return -1L;
+                    }
+                }));
+            }
+        }
+        var latencies = futures.stream()
+                .map(Future::resultNow)
+                .filter(latency -> latency >= 0)
+                .toList();
+        System.out.printf("accepted: %d, rejected: %d, max latency: %dms, max concurrency: %d%n",
+                latencies.size(), rejected.get(),
+                latencies.stream().mapToLong(Long::longValue).max().orElse(0),
+                myBackend.maxConcurrency.get());
+        interceptor.limiter(MyBackend.class, "call").ifPresent(System.out::println);
+    }
+}
@@ -0,0 +1,529 @@
+package io.helidon.examples.inject;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Target;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.helidon.common.types.TypeName;
+import io.helidon.common.types.TypedElementInfo;
+import io.helidon.service.registry.Interception;
+import io.helidon.service.registry.InterceptionContext;
+import io.helidon.service.registry.Service;
+import io.helidon.service.registry.ServiceRegistryManager;
+
+/**
+ * An example that illustrates a memoizing {@link Interception.Interceptor}.
+ */
+class CachedExample {
+
+    /**
+     * An annotation to mark methods whose results are memoized.
+     * The method must be a pure function of its arguments, the arguments are the cache key.
+     */
+    @Interception.Intercepted
+    @Target(ElementType.METHOD)
+    @interface Cached {
+
+        /**
+         * Maximum number of cached results.
+         *
+         * @return maximum size
+         */
+        int maximumSize() default 1000;
+
+        /**
+         * Time to live of a cached result in milliseconds, {@code 0} for no expiry.
+         *
+         * @return time to live
+         */
+        long ttlMillis() default 0;
+    }
+
+    /**
+     * A source of time for the expiry of the cached results, passed to the registry manager config, e.g. to control
+     * the time in tests. {@link System#nanoTime()} is used if there is none.
+     */
+    @Service.Describe
+    @Service.Contract
+    @FunctionalInterface
+    interface Ticker {
+
+        /**
+         * A ticker that reads {@link System#nanoTime()}.
+         */
+        Ticker SYSTEM = System::nanoTime;
+
+        /**
+         * Read the current time.
+         *
+         * @return time in nanoseconds, only meaningful to compute elapsed time
+         */
+        long read();
+    }
+
+    /**
+     * A bounded, concurrent cache with a W-TinyLFU policy.
+     * <p>
+     * New entries are admitted to a small LRU window, entries evicted from the window compete with the least recently
+     * used entry of the main segmented LRU: the entry with the highest estimated frequency is kept. Frequencies are
+     * estimated by a count-min sketch of 4-bit counters that are halved periodically, so that the sketch ages.
+     * <p>
+     * Reads do not block: a hit updates the policy only if the policy lock is free, a contended hit is not recorded
+     * by the policy. Concurrent misses for the same key may load the value more than once.
+     *
+     * @param <K> key type
+     * @param <V> value type
+     */
+    static final class BoundedCache<K, V> {
+
+        private final Map<K, Node<K, V>> data = new ConcurrentHashMap<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final FrequencySketch sketch;
+        private final AccessOrder<K, V> window = new AccessOrder<>();
+        private final AccessOrder<K, V> probation = new AccessOrder<>();
+        private final AccessOrder<K, V> protect = new AccessOrder<>();
+        private final int maximumSize;
+        private final int windowMaximum;
+        private final int protectedMaximum;
+        private final long ttlNanos;
+        private final Ticker ticker;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+
+        /**
+         * Create a new cache.
+         *
+         * @param maximumSize maximum number of entries
+         * @param ttl         time to live of an entry, {@link Duration#ZERO} for no expiry
+         */
+        BoundedCache(int maximumSize, Duration ttl) {
+            this(maximumSize, ttl, Ticker.SYSTEM);
+        }
+
+        /**
+         * Create a new cache.
+         *
+         * @param maximumSize maximum number of entries
+         * @param ttl         time to live of an entry, {@link Duration#ZERO} for no expiry
+         * @param ticker      source of time for the expiry of the entries
+         */
+        BoundedCache(int maximumSize, Duration ttl, Ticker ticker) {
+            this.ticker = ticker;
+            this.maximumSize = Math.max(2, maximumSize);
+            this.windowMaximum = Math.max(1, this.maximumSize / 100);
+            this.protectedMaximum = (this.maximumSize - windowMaximum) * 80 / 100;
+            this.ttlNanos = ttl.toNanos();
+            this.sketch = new FrequencySketch(this.maximumSize);
+        }
+
+        /**
+         * Get the value of a key, loading it if the key is not cached or if its entry expired.
+         *
+         * @param key    key
+         * @param loader loader of the value
+         * @return value
+         * @throws Exception if the loader fails, the failure is not cached
+         */
+        V get(K key, Loader<V> loader) throws Exception {
+            var node = data.get(key);
+            if (node != null && !node.expired(ticker.read())) {
+                hits.increment();
+                if (lock.tryLock()) {
+                    try {
+                        onHit(node);
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+                return node.value;
+            }
+            misses.increment();
+            V value = loader.load();
+            lock.lock();
+            try {
+                onMiss(key, value);
+            } finally {
+                lock.unlock();
+            }
+            return value;
+        }
+
+        /**
+         * Test if a key is cached.
+         *
+         * @param key key
+         * @return {@code true} if cached and not expired
+         */
+        boolean contains(K key) {
+            var node = data.get(key);
+            return node != null && !node.expired(ticker.read());
+        }
+
+        /**
+         * Get the number of entries.
+         *
+         * @return size
+         */
+        int size() {
+            return data.size();
+        }
+
+        /**
+         * Get the number of hits.
+         *
+         * @return hits
+         */
+        long hits() {
+            return hits.sum();
+        }
+
+        /**
+         * Get the number of misses.
+         *
+         * @return misses
+         */
+        long misses() {
+            return misses.sum();
+        }
+
+        /**
+         * Get the number of evicted entries.
+         *
+         * @return evictions
+         */
+        long evictions() {
+            return evictions.sum();
+        }
+
+        @Override
+        public String toString() {
+            return "size=%d, hits=%d, misses=%d, evictions=%d".formatted(size(), hits(), misses(), evictions());
+        }
+
+        private void onHit(Node<K, V> node) {
+            if (node.queue == null) {
+                // evicted concurrently
+                return;
+            }
+            sketch.increment(node.key);
+            if (node.queue == probation) {
+                probation.remove(node);
+                protect.add(node);
+                if (protect.size() > protectedMaximum) {
+                    var demoted = protect.first();
+                    protect.remove(demoted);
+                    probation.add(demoted);
+                }
+            } else {
+                node.queue.moveToLast(node);
+            }
+        }
+
+        private void onMiss(K key, V value) {
+            sketch.increment(key);
+            long expiry = ttlNanos == 0 ? 0 : ticker.read() + ttlNanos;
+            var existing = data.get(key);
+            if (existing != null) {
+                // loaded concurrently, or expired
+                existing.value = value;
+                existing.expiry = expiry;
+                return;
+            }
+            var node = new Node<>(key, value, expiry);
+            data.put(key, node);
+            window.add(node);
+            if (window.size() > windowMaximum) {
+                var candidate = window.first();
+                window.remove(candidate);
+                probation.add(candidate);
+                if (data.size() > maximumSize) {
+                    var victim = probation.first();
+                    evict(sketch.frequency(candidate.key) > sketch.frequency(victim.key) ? victim : candidate);
+                }
+            }
+        }
+
+        private void evict(Node<K, V> node) {
+            node.queue.remove(node);
+            data.remove(node.key, node);
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Loads a value.
+     *
+     * @param <V> value type
+     */
+    interface Loader<V> {
+        V load() throws Exception;
+    }
+
+    private static final class Node<K, V> {
+
+        private final K key;
+        private volatile V value;
+        private volatile long expiry;
+        private AccessOrder<K, V> queue;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+
+        Node(K key, V value, long expiry) {
+            this.key = key;
+            this.value = value;
+            this.expiry = expiry;
+        }
+
+        boolean expired(long now) {
+            long expiry = this.expiry;
+            return expiry != 0 && now - expiry >= 0;
+        }
+    }
+
+    /**
+     * A doubly linked list of nodes, from the least to the most recently used.
+     */
+    private static final class AccessOrder<K, V> {
+
+        private Node<K, V> first;
+        private Node<K, V> last;
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        Node<K, V> first() {
+            return first;
+        }
+
+        void add(Node<K, V> node) {
+            node.queue = this;
+            node.prev = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+            size++;
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                first = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.queue = null;
+            node.prev = null;
+            node.next = null;
+            size--;
+        }
+
+        void moveToLast(Node<K, V> node) {
+            if (node != last) {
+                remove(node);
+                add(node);
+            }
+        }
+    }
+
+    /**
+     * A count-min sketch of 4-bit counters, with 4 hash functions.
+     * Two counters are packed in each byte, the counter {@code i} is the low nibble of the byte {@code i / 2} if
+     * {@code i} is even, its high nibble otherwise.
+     * All the counters are halved after a sample of {@code 10 * maximumSize} increments.
+     */
+    private static final class FrequencySketch {
+
+        private static final int[] SEEDS = {0x97CB3127, 0x1B873593, 0xCC9E2D51, 0x85EBCA6B};
+        private static final int MAX_COUNT = 15;
+
+        private final byte[] counters;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int maximumSize) {
+            int size = Integer.highestOneBit(Math.max(16, maximumSize) * 4 - 1) << 1;
+            this.counters = new byte[size / 2];
+            this.mask = size - 1;
+            this.sampleSize = 10 * maximumSize;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            for (int seed : SEEDS) {
+                int index = index(hash, seed);
+                if (count(index) < MAX_COUNT) {
+                    counters[index >>> 1] += (byte) (1 << shift(index));
+                }
+            }
+            if (++additions >= sampleSize) {
+                for (int i = 0; i < counters.length; i++) {
+                    // halve both nibbles, the bits shifted into the nibbles from the left are cleared
+                    counters[i] = (byte) ((counters[i] >>> 1) & 0x77);
+                }
+                additions /= 2;
+            }
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int frequency = MAX_COUNT;
+            for (int seed : SEEDS) {
+                frequency = Math.min(frequency, count(index(hash, seed)));
+            }
+            return frequency;
+        }
+
+        private int count(int index) {
+            return (counters[index >>> 1] >>> shift(index)) & MAX_COUNT;
+        }
+
+        private static int shift(int index) {
+            return (index & 1) << 2;
+        }
+
+        private int index(int hash, int seed) {
+            int h = hash * seed;
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        private static int spread(int hash) {
+            hash ^= hash >>> 16;
+            hash *= 0x45D9F3B;
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    /**
+     * The arguments of an invocation, used as a cache key.
+     *
+     * @param args arguments
+     */
+    record ArgumentsKey(Object[] args) {
+
+        @Override
+        public boolean equals(Object o) {
+            // arguments may be arrays, e.g. varargs, that are compared by content
+            return o instanceof ArgumentsKey other && Arrays.deepEquals(args, other.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.deepHashCode(args);
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.deepToString(args);
+        }
+    }
+
+    /**
+     * An interceptor implementation that supports {@link Cached}.
+     * Each intercepted method of each service has its own cache, configured by the annotation.
+     */
+    @Service.Singleton
+    @Service.NamedByType(Cached.class)
+    static class CachingInterceptor implements Interception.Interceptor {
+
+        private static final TypeName CACHED = TypeName.create(Cached.class);
+
+        private final ElementRegistry<BoundedCache<ArgumentsKey, Object>> caches;
+        private final Ticker ticker;
+
+        CachingInterceptor(Optional<Ticker> ticker) {
+            this.ticker = ticker.orElse(Ticker.SYSTEM);
+            this.caches = new ElementRegistry<>((serviceType, element) -> create(element));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <V> V proceed(InterceptionContext ctx, Chain<V> chain, Object... args) throws Exception {
+            var cache = caches.get(ctx.serviceInfo().serviceType(), ctx.elementInfo());
+            return (V) cache.get(new ArgumentsKey(args), () -> chain.proceed(args));
+        }
+
+        /**
+         * Get the cache of a method.
+         *
+         * @param serviceType service type
+         * @param methodName  method name
+         * @return cache of the first method with the given name, empty if the method was not invoked
+         */
+        Optional<BoundedCache<ArgumentsKey, Object>> cache(Class<?> serviceType, String methodName) {
+            return caches.find(serviceType, methodName);
+        }
+
+        private BoundedCache<ArgumentsKey, Object> create(TypedElementInfo element) {
+            var annotation = element.annotations().stream()
+                    .filter(a -> a.typeName().equals(CACHED))
+                    .findFirst();
+            int maximumSize = annotation.flatMap(a -> a.intValue("maximumSize")).orElse(1000);
+            long ttlMillis = annotation.flatMap(a -> a.longValue("ttlMillis")).orElse(0L);
+            return new BoundedCache<>(maximumSize, Duration.ofMillis(ttlMillis), ticker);
+        }
+    }
+
+    /**
+     * A contract with memoized methods.
+     */
+    interface MyGreeter {
+
+        @Cached(maximumSize = 100)
+        String sayHello(String name);
+
+        @Cached(maximumSize = 100, ttlMillis = 50)
+        String sayGoodbye(String name);
+    }
+
+    /**
+     * A service that implements a contract with memoized methods.
+     */
+    @Service.Singleton
+    static class MyGreeterImpl implements MyGreeter {
+
+        final LongAdder invocations = new LongAdder();
+
+        @Override
+        public String sayHello(String name) {
+            invocations.increment();
+            return "Hello %s!".formatted(name);
+        }
+
+        @Override
+        public String sayGoodbye(String name) {
+            invocations.increment();
+            return "Goodbye %s!".formatted(name);
+        }
+    }
+
+    public static void main(String[] args) {
+        var registry = ServiceRegistryManager.create().registry();
+        var myGreeter = registry.get(MyGreeter.class);
+        var myGreeterImpl = registry.get(MyGreeterImpl.class);
+        var interceptor = registry.get(CachingInterceptor.class);
+
+        System.out.println(myGreeter.sayHello("Joe"));
+        System.out.println(myGreeter.sayHello("Joe"));
+        System.out.println(myGreeter.sayHello("Jack"));
+        System.out.printf("invocations: %d%n", myGreeterImpl.invocations.sum());
+        interceptor.cache(MyGreeterImpl.class, "sayHello").ifPresent(System.out::println);
+    }
+}
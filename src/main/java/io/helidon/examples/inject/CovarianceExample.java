@@ -1,6 +1,12 @@
 package io.helidon.examples.inject;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import io.helidon.service.registry.ServiceRegistryManager;
 import io.helidon.service.registry.Service;
@@ -42,6 +48,104 @@ class CovarianceExample {
     record Shelter(List<Pet> all, List<Cat> cats, List<Dog> dogs) {
     }
 
+    /**
+     * Services of a hierarchy, indexed by every contract of the hierarchy.
+     * The supertype closure of each service is computed once, the services of any contract of the hierarchy are then
+     * served from a precomputed list instead of being resolved at runtime.
+     * Instances are held by the index, thus it is meant for singleton services.
+     *
+     * @param <T> root contract type
+     */
+    static final class Hierarchy<T> {
+
+        private final Map<Class<?>, List<?>> services;
+
+        private Hierarchy(Map<Class<?>, List<?>> services) {
+            this.services = services;
+        }
+
+        /**
+         * Create a new index.
+         *
+         * @param root     root contract
+         * @param services services of the root contract, in the order to preserve
+         * @param <T>      root contract type
+         * @return index
+         */
+        static <T> Hierarchy<T> create(Class<T> root, List<? extends T> services) {
+            var map = new HashMap<Class<?>, List<Object>>();
+            for (var service : services) {
+                for (var contract : closure(service.getClass(), root)) {
+                    map.computeIfAbsent(contract, k -> new ArrayList<>()).add(service);
+                }
+            }
+            var index = new HashMap<Class<?>, List<?>>();
+            map.forEach((contract, list) -> index.put(contract, List.copyOf(list)));
+            return new Hierarchy<>(Map.copyOf(index));
+        }
+
+        /**
+         * Get the services of a contract.
+         *
+         * @param contract contract
+         * @param <U>      contract type
+         * @return services
+         */
+        @SuppressWarnings("unchecked")
+        <U extends T> List<U> all(Class<U> contract) {
+            return (List<U>) services.getOrDefault(contract, List.of());
+        }
+
+        /**
+         * Compute the supertype closure of a type, limited to the subtypes of a root type.
+         *
+         * @param type type
+         * @param root root type
+         * @return supertypes, including the type itself
+         */
+        static Set<Class<?>> closure(Class<?> type, Class<?> root) {
+            var closure = new HashSet<Class<?>>();
+            var stack = new ArrayDeque<Class<?>>();
+            stack.push(type);
+            while (!stack.isEmpty()) {
+                var next = stack.pop();
+                if (root.isAssignableFrom(next) && closure.add(next)) {
+                    for (var iface : next.getInterfaces()) {
+                        stack.push(iface);
+                    }
+                    if (next.getSuperclass() != null) {
+                        stack.push(next.getSuperclass());
+                    }
+                }
+            }
+            return closure;
+        }
+    }
+
+    /**
+     * A service that indexes all the pets.
+     */
+    @Service.Singleton
+    static class PetIndex {
+
+        private final Hierarchy<Pet> hierarchy;
+
+        PetIndex(List<Pet> pets) {
+            hierarchy = Hierarchy.create(Pet.class, pets);
+        }
+
+        /**
+         * Get the pets of a kind.
+         *
+         * @param kind kind of pet
+         * @param <T>  kind type
+         * @return pets
+         */
+        <T extends Pet> List<T> all(Class<T> kind) {
+            return hierarchy.all(kind);
+        }
+    }
+
     public static void main(String[] args) {
         var registry = ServiceRegistryManager.create().registry();
         var shelter = registry.get(Shelter.class);
@@ -54,5 +158,9 @@ class CovarianceExample {
 
         System.out.println("\nAll dogs:");
         shelter.dogs.stream().map(Dog::name).forEach(System.out::println);
+
+        var petIndex = registry.get(PetIndex.class);
+        System.out.println("\nAll indexed cats:");
+        petIndex.all(Cat.class).stream().map(Cat::name).forEach(System.out::println);
     }
 }
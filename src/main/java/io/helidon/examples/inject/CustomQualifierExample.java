@@ -1,5 +1,17 @@
 package io.helidon.examples.inject;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import io.helidon.service.registry.Lookup;
+import io.helidon.service.registry.Qualifier;
+import io.helidon.service.registry.ServiceInfo;
+import io.helidon.service.registry.ServiceRegistry;
 import io.helidon.service.registry.ServiceRegistryManager;
 import io.helidon.service.registry.Service;
 
@@ -67,6 +79,90 @@ class CustomQualifierExample {
     record GreenCircle(@HexCode("008000") Color color) {
     }
 
+    /**
+     * Services grouped by qualifier, i.e. qualifier type and value.
+     *
+     * @param services services by qualifier
+     * @param <T>      service type
+     */
+    record QualifiedServices<T>(Map<Qualifier, List<T>> services) {
+
+        /**
+         * Group services by qualifier.
+         *
+         * @param services   services
+         * @param qualifiers function to get the qualifiers of a service
+         * @param <T>        service type
+         * @return qualified services
+         */
+        static <T> QualifiedServices<T> create(List<T> services, Function<T, Set<Qualifier>> qualifiers) {
+            var map = new HashMap<Qualifier, List<T>>();
+            for (var service : services) {
+                for (var qualifier : qualifiers.apply(service)) {
+                    map.computeIfAbsent(qualifier, k -> new ArrayList<>()).add(service);
+                }
+            }
+            map.replaceAll((qualifier, list) -> List.copyOf(list));
+            return new QualifiedServices<>(Map.copyOf(map));
+        }
+
+        /**
+         * Get the services with a qualifier.
+         *
+         * @param qualifier qualifier
+         * @return services, in the original order
+         */
+        List<T> get(Qualifier qualifier) {
+            return services.getOrDefault(qualifier, List.of());
+        }
+    }
+
+    /**
+     * An index of the services by contract and qualifier.
+     * The services of a contract are looked up and grouped by qualifier once, qualified lookups are then a hash
+     * lookup instead of a filter over all the implementations of the contract.
+     */
+    @Service.Singleton
+    static class QualifierIndex {
+
+        private final Map<Class<?>, QualifiedServices<ServiceInfo>> index = new ConcurrentHashMap<>();
+        private final ServiceRegistry registry;
+
+        QualifierIndex(ServiceRegistry registry) {
+            this.registry = registry;
+        }
+
+        /**
+         * Get the first service of a contract with a qualifier.
+         *
+         * @param contract  contract
+         * @param qualifier qualifier
+         * @param <T>       contract type
+         * @return instance
+         * @throws IllegalStateException if there is no such service
+         */
+        <T> T get(Class<T> contract, Qualifier qualifier) {
+            var services = services(contract, qualifier);
+            if (services.isEmpty()) {
+                throw new IllegalStateException("No service found for %s with %s".formatted(contract, qualifier));
+            }
+            return contract.cast(registry.get(services.getFirst()).orElseThrow());
+        }
+
+        /**
+         * Get the services of a contract with a qualifier.
+         *
+         * @param contract  contract
+         * @param qualifier qualifier
+         * @return services, ordered by weight
+         */
+        List<ServiceInfo> services(Class<?> contract, Qualifier qualifier) {
+            return index.computeIfAbsent(contract, c -> QualifiedServices.create(
+                            registry.lookupServices(Lookup.create(c)), ServiceInfo::qualifiers))
+                    .get(qualifier);
+        }
+    }
+
     public static void main(String[] args) {
         var registry = ServiceRegistryManager.create().registry();
         var blueCircle = registry.get(BlueCircle.class);
@@ -74,5 +170,9 @@ class CustomQualifierExample {
 
         System.out.printf("blue circle color name: %s%n", blueCircle.color().name());
         System.out.printf("green circle color name: %s%n", greenCircle.color().name());
+
+        var index = registry.get(QualifierIndex.class);
+        var blue = index.get(Color.class, Qualifier.create(HexCode.class, "0000FF"));
+        System.out.printf("indexed color name: %s%n", blue.name());
     }
 }
@@ -0,0 +1,101 @@
+package io.helidon.examples.inject;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+import io.helidon.common.types.TypeName;
+import io.helidon.common.types.TypedElementInfo;
+
+/**
+ * A registry of values per intercepted element of a service, e.g. the metrics or the cache of a method, created on
+ * first use.
+ * <p>
+ * The element infos passed to the interceptors are constants of the generated code, the lookups are thus keyed by
+ * the identity of the element: a lookup does not hash the element, and does not allocate. The values are also kept
+ * by element equality, an element passed with different identities still has a single value.
+ *
+ * @param <T> value type
+ */
+final class ElementRegistry<T> {
+
+    private final Map<Element, T> values = new ConcurrentHashMap<>();
+    private final BiFunction<TypeName, TypedElementInfo, T> factory;
+    // copy-on-write, a published map is never modified
+    private volatile IdentityHashMap<TypedElementInfo, Binding<T>> index = new IdentityHashMap<>();
+
+    /**
+     * Create a new registry.
+     *
+     * @param factory creates the value of an element
+     */
+    ElementRegistry(BiFunction<TypeName, TypedElementInfo, T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Get the value of an element, created on first use.
+     *
+     * @param serviceType service type
+     * @param element     element
+     * @return value
+     */
+    T get(TypeName serviceType, TypedElementInfo element) {
+        // the bindings of an element are the services that share it, e.g. the implementations of a contract
+        for (var binding = index.get(element); binding != null; binding = binding.next()) {
+            if (binding.serviceType() == serviceType || binding.serviceType().equals(serviceType)) {
+                return binding.value();
+            }
+        }
+        return bind(serviceType, element);
+    }
+
+    /**
+     * Find the value of the first element of a service with the given name.
+     *
+     * @param serviceType service type
+     * @param elementName element name
+     * @return value, empty if the element was not used
+     */
+    Optional<T> find(Class<?> serviceType, String elementName) {
+        var typeName = TypeName.create(serviceType);
+        return values.entrySet().stream()
+                .filter(entry -> entry.getKey().serviceType().equals(typeName)
+                                 && entry.getKey().element().elementName().equals(elementName))
+                .map(Map.Entry::getValue)
+                .findFirst();
+    }
+
+    /**
+     * Invoke an action for each element that was used.
+     *
+     * @param action action
+     */
+    void forEach(BiConsumer<Element, T> action) {
+        values.forEach(action);
+    }
+
+    private synchronized T bind(TypeName serviceType, TypedElementInfo element) {
+        var value = values.computeIfAbsent(new Element(serviceType, element),
+                key -> factory.apply(key.serviceType(), key.element()));
+        var copy = new IdentityHashMap<>(index);
+        copy.put(element, new Binding<>(serviceType, value, copy.get(element)));
+        index = copy;
+        return value;
+    }
+
+    /**
+     * An element of a service.
+     *
+     * @param serviceType service type
+     * @param element     element
+     */
+    record Element(TypeName serviceType, TypedElementInfo element) {
+    }
+
+    private record Binding<T>(TypeName serviceType, T value, Binding<T> next) {
+    }
+}
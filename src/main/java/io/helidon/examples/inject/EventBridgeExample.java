@@ -0,0 +1,476 @@
+package io.helidon.examples.inject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import io.helidon.service.registry.Event;
+import io.helidon.service.registry.Service;
+import io.helidon.service.registry.ServiceRegistryConfig;
+import io.helidon.service.registry.ServiceRegistryManager;
+
+/**
+ * An example that illustrates a bridge of events between the registries of several processes on the same host.
+ * <p>
+ * Run this example in two processes with the same file argument, each process prints the events of the other.
+ */
+class EventBridgeExample {
+
+    /**
+     * The bridge configuration, passed to the registry manager config.
+     */
+    @Service.Describe
+    @Service.Contract
+    interface BridgeConfig {
+
+        /**
+         * File shared by the processes.
+         *
+         * @return file
+         */
+        Path file();
+
+        /**
+         * Capacity of the ring buffer, in bytes.
+         *
+         * @return capacity, a power of two
+         */
+        int capacity();
+    }
+
+    /**
+     * A non-service implementation of {@link BridgeConfig}.
+     *
+     * @param file     file shared by the processes
+     * @param capacity capacity of the ring buffer, in bytes
+     */
+    record MyBridgeConfig(Path file, int capacity) implements BridgeConfig {
+    }
+
+    /**
+     * A multi-producer, multi-subscriber ring buffer in a memory-mapped file, shared by processes.
+     * <p>
+     * The file starts with a header that holds the claimed write position, followed by the records. Producers claim
+     * space with a compare-and-set of the write position, invalidate the commit word of the record, write the record
+     * and commit it by writing its position last. Each subscriber reads all the records from its own position, and
+     * validates each record after reading it, as a seqlock. A subscriber that is lapped by the producers skips the
+     * overwritten records, and counts them as lost.
+     */
+    static final class SharedRing implements AutoCloseable {
+
+        private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class,
+                ByteOrder.nativeOrder());
+        private static final int TAIL = 0;
+        private static final int DATA = 64;
+        private static final int RECORD_HEADER = 24;
+        private static final int PADDING = -1;
+        private static final long IN_PROGRESS = 0;
+
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private final int mask;
+
+        /**
+         * Map a ring buffer, the file is created if it does not exist.
+         *
+         * @param file     file
+         * @param capacity capacity, a power of two
+         * @throws IllegalArgumentException if the capacity is not a power of two
+         * @throws UncheckedIOException     if an I/O error occurs
+         */
+        SharedRing(Path file, int capacity) {
+            if (Integer.bitCount(capacity) != 1 || capacity < RECORD_HEADER) {
+                throw new IllegalArgumentException("Invalid capacity: " + capacity);
+            }
+            this.capacity = capacity;
+            this.mask = capacity - 1;
+            try (var channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, DATA + capacity);
+                buffer.order(ByteOrder.nativeOrder());
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        /**
+         * Publish a record.
+         *
+         * @param origin  id of the publisher
+         * @param channel channel of the record
+         * @param payload payload
+         * @throws IllegalArgumentException if the record is larger than the ring buffer
+         */
+        void publish(long origin, int channel, byte[] payload) {
+            int size = align(RECORD_HEADER + payload.length);
+            if (size > capacity) {
+                throw new IllegalArgumentException("Record too large: " + payload.length);
+            }
+            while (true) {
+                long tail = (long) LONGS.getVolatile(buffer, TAIL);
+                int offset = (int) (tail & mask);
+                int padding = offset + size > capacity ? capacity - offset : 0;
+                if (LONGS.compareAndSet(buffer, TAIL, tail, tail + padding + size)) {
+                    if (padding >= RECORD_HEADER) {
+                        int start = DATA + offset;
+                        begin(start);
+                        buffer.putInt(start + 8, PADDING);
+                        commit(start, tail);
+                    }
+                    long position = tail + padding;
+                    int start = DATA + (int) (position & mask);
+                    begin(start);
+                    buffer.putInt(start + 8, payload.length);
+                    buffer.putInt(start + 12, channel);
+                    buffer.putLong(start + 16, origin);
+                    buffer.put(start + RECORD_HEADER, payload);
+                    commit(start, position);
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Create a subscription that reads the records published from now on.
+         *
+         * @return subscription
+         */
+        Subscription subscribe() {
+            return new Subscription((long) LONGS.getVolatile(buffer, TAIL));
+        }
+
+        /**
+         * Force the ring buffer to the storage device.
+         */
+        @Override
+        public void close() {
+            buffer.force();
+        }
+
+        private void begin(int start) {
+            // the previous record is invalidated before it is overwritten, the fence orders the writes that follow
+            LONGS.setOpaque(buffer, start, IN_PROGRESS);
+            VarHandle.releaseFence();
+        }
+
+        private void commit(int start, long position) {
+            // the position is offset by one as the file is initially filled with zeros
+            LONGS.setRelease(buffer, start, position + 1);
+        }
+
+        private static int align(int size) {
+            return (size + 7) & ~7;
+        }
+
+        /**
+         * A handler of the records read by a {@link Subscription}.
+         */
+        @FunctionalInterface
+        interface RecordHandler {
+
+            /**
+             * Handle a record.
+             *
+             * @param origin  id of the publisher
+             * @param channel channel of the record
+             * @param payload payload, only valid during the invocation
+             */
+            void handle(long origin, int channel, ByteBuffer payload);
+        }
+
+        /**
+         * A subscription, not thread-safe.
+         */
+        final class Subscription {
+
+            private long position;
+            private long lost;
+            private byte[] scratch = new byte[256];
+
+            private Subscription(long position) {
+                this.position = position;
+            }
+
+            /**
+             * Read the next record.
+             *
+             * @param handler record handler
+             * @return {@code true} if a record was read, {@code false} if there is no committed record to read
+             */
+            boolean poll(RecordHandler handler) {
+                while (true) {
+                    long tail = (long) LONGS.getVolatile(buffer, TAIL);
+                    if (position == tail) {
+                        return false;
+                    }
+                    if (tail - position > capacity) {
+                        return overrun(tail);
+                    }
+                    int offset = (int) (position & mask);
+                    int remaining = capacity - offset;
+                    if (remaining < RECORD_HEADER) {
+                        // too small for a record, producers skip it without writing a padding record
+                        position += remaining;
+                        continue;
+                    }
+                    int start = DATA + offset;
+                    if ((long) LONGS.getAcquire(buffer, start) - 1 != position) {
+                        // claimed but not committed yet, the slot may still hold bytes of the previous lap
+                        return false;
+                    }
+                    int length = buffer.getInt(start + 8);
+                    int channel = buffer.getInt(start + 12);
+                    long origin = buffer.getLong(start + 16);
+                    if (length != PADDING) {
+                        if (length < 0 || length > capacity - RECORD_HEADER) {
+                            // torn header
+                            return overrun(tail);
+                        }
+                        if (scratch.length < length) {
+                            scratch = new byte[Integer.highestOneBit(length) << 1];
+                        }
+                        buffer.get(start + RECORD_HEADER, scratch, 0, length);
+                    }
+                    // the record may have been overwritten while it was read: the fence keeps the reads above before
+                    // the validation; a producer invalidates the commit word of the records it overwrites, and the
+                    // write position covers the records overwritten by a misaligned record of the next lap
+                    VarHandle.acquireFence();
+                    if ((long) LONGS.getAcquire(buffer, start) - 1 != position
+                        || (long) LONGS.getVolatile(buffer, TAIL) - position > capacity) {
+                        return overrun(tail);
+                    }
+                    if (length == PADDING) {
+                        position += remaining;
+                        continue;
+                    }
+                    position += align(RECORD_HEADER + length);
+                    handler.handle(origin, channel, ByteBuffer.wrap(scratch, 0, length));
+                    return true;
+                }
+            }
+
+            /**
+             * Get the number of times this subscription was lapped by the producers.
+             *
+             * @return number of overruns
+             */
+            long lost() {
+                return lost;
+            }
+
+            private boolean overrun(long tail) {
+                lost++;
+                position = tail;
+                return false;
+            }
+        }
+    }
+
+    /**
+     * A bridge of events over a {@link SharedRing}.
+     * The records published by the bridge itself are ignored, the records of the other publishers are decoded and
+     * passed to the consumer of their channel on the bridge thread.
+     */
+    static final class EventBridge implements AutoCloseable {
+
+        private final long origin = ThreadLocalRandom.current().nextLong();
+        private final Map<Integer, Consumer<ByteBuffer>> channels = new ConcurrentHashMap<>();
+        private final AtomicLong received = new AtomicLong();
+        private final SharedRing ring;
+        private final SharedRing.Subscription subscription;
+        private final Thread thread;
+        private volatile boolean closed;
+
+        EventBridge(SharedRing ring) {
+            this.ring = ring;
+            this.subscription = ring.subscribe();
+            this.thread = Thread.ofPlatform()
+                    .daemon()
+                    .name("event-bridge")
+                    .unstarted(this::consume);
+        }
+
+        /**
+         * Subscribe to a channel.
+         *
+         * @param channel  channel
+         * @param codec    codec of the events
+         * @param consumer event consumer
+         * @param <T>      event type
+         */
+        <T> void subscribe(int channel, EventJournalExample.Codec<T> codec, Consumer<T> consumer) {
+            channels.put(channel, payload -> consumer.accept(codec.decode(payload)));
+        }
+
+        /**
+         * Start consuming the events of the other publishers.
+         */
+        void start() {
+            thread.start();
+        }
+
+        /**
+         * Publish an event.
+         *
+         * @param channel channel
+         * @param codec   codec of the event
+         * @param event   event
+         * @param <T>     event type
+         */
+        <T> void publish(int channel, EventJournalExample.Codec<T> codec, T event) {
+            ring.publish(origin, channel, codec.encode(event));
+        }
+
+        /**
+         * Test if the current thread is the bridge thread, i.e. if the current event comes from the bridge.
+         *
+         * @return {@code true} if the current thread is the bridge thread
+         */
+        boolean isBridgeThread() {
+            return Thread.currentThread() == thread;
+        }
+
+        /**
+         * Get the number of events received from the other publishers.
+         *
+         * @return number of events
+         */
+        long received() {
+            return received.get();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            try {
+                thread.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            ring.close();
+        }
+
+        private void consume() {
+            int idle = 0;
+            while (!closed) {
+                if (subscription.poll(this::handle)) {
+                    idle = 0;
+                } else if (++idle < 100) {
+                    Thread.onSpinWait();
+                } else {
+                    // the publishers are other processes, they cannot wake up this thread
+                    LockSupport.parkNanos(50_000);
+                }
+            }
+        }
+
+        private void handle(long origin, int channel, ByteBuffer payload) {
+            if (origin != this.origin) {
+                var consumer = channels.get(channel);
+                if (consumer != null) {
+                    consumer.accept(payload);
+                    received.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * A service that bridges {@link EventsExample.MyEvent} and the string events named {@code id} with the other
+     * processes.
+     * The bridge is opt-in: it is only started if a {@link BridgeConfig} is passed to the registry manager config,
+     * otherwise the observers do nothing.
+     */
+    @Service.Singleton
+    static class MyEventBridge {
+
+        static final int MY_EVENT_CHANNEL = 1;
+        static final int ID_CHANNEL = 2;
+        static final EventJournalExample.Codec<EventsExample.MyEvent> MY_EVENT_CODEC = EventJournalExample.Codec.of(
+                EventsExample.MyEvent::msg, EventsExample.MyEvent::new);
+
+        private final EventBridge bridge;
+
+        MyEventBridge(Optional<BridgeConfig> config,
+                      Event.Emitter<EventsExample.MyEvent> emitter,
+                      @Service.Named("id") Event.Emitter<String> idEmitter) {
+            bridge = config.map(it -> new EventBridge(new SharedRing(it.file(), it.capacity())))
+                    .orElse(null);
+            if (bridge != null) {
+                bridge.subscribe(MY_EVENT_CHANNEL, MY_EVENT_CODEC, emitter::emit);
+                bridge.subscribe(ID_CHANNEL, EventJournalExample.Codec.STRING, idEmitter::emit);
+                bridge.start();
+            }
+        }
+
+        @Event.Observer
+        void event(EventsExample.MyEvent event) {
+            // do not send back the events received from the bridge
+            if (bridge != null && !bridge.isBridgeThread()) {
+                bridge.publish(MY_EVENT_CHANNEL, MY_EVENT_CODEC, event);
+            }
+        }
+
+        @Event.Observer
+        @Service.Named("id")
+        void id(String id) {
+            if (bridge != null && !bridge.isBridgeThread()) {
+                bridge.publish(ID_CHANNEL, EventJournalExample.Codec.STRING, id);
+            }
+        }
+
+        @Service.PreDestroy
+        void close() {
+            if (bridge != null) {
+                bridge.close();
+            }
+        }
+
+        boolean enabled() {
+            return bridge != null;
+        }
+
+        long received() {
+            return bridge != null ? bridge.received() : 0;
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        var file = Path.of(args.length > 0 ? args[0] : System.getProperty("java.io.tmpdir") + "/event-bridge");
+        int count = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        var config = ServiceRegistryConfig.builder()
+                // pass the non managed instance of the bridge config
+                .putContractInstance(BridgeConfig.class, new MyBridgeConfig(file, 1024 * 1024))
+                .build();
+        var registryManager = ServiceRegistryManager.create(config);
+        var registry = registryManager.registry();
+        var bridge = registry.get(MyEventBridge.class);
+        var myEmitter = registry.get(EventsExample.MyEmitter.class);
+        var myIdEmitter = registry.get(EventsExample.MyIdEmitter.class);
+
+        long pid = ProcessHandle.current().pid();
+        for (int i = 0; i < count; i++) {
+            myEmitter.emit("%d-%d".formatted(pid, i));
+            myIdEmitter.emit("%d-%d".formatted(pid, i));
+        }
+        // leave some time to receive the events of the other process
+        Thread.sleep(1000);
+        System.out.printf("received %d events%n", bridge.received());
+        System.out.println(registry.get(EventsExample.MyObserver.class).messages);
+        registryManager.shutdown();
+    }
+}
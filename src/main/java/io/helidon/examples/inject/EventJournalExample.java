@@ -0,0 +1,384 @@
+package io.helidon.examples.inject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import io.helidon.service.registry.Event;
+import io.helidon.service.registry.Service;
+import io.helidon.service.registry.ServiceRegistryConfig;
+import io.helidon.service.registry.ServiceRegistryManager;
+
+/**
+ * An example that illustrates a durable {@link Event.Emitter}, using an append-only journal.
+ */
+class EventJournalExample {
+
+    /**
+     * The journal configuration, passed to the registry manager config.
+     */
+    @Service.Describe
+    @Service.Contract
+    interface JournalConfig {
+
+        /**
+         * Directory of the journals.
+         *
+         * @return directory
+         */
+        Path directory();
+
+        /**
+         * Size of a journal segment, in bytes.
+         *
+         * @return segment size
+         */
+        int segmentSize();
+    }
+
+    /**
+     * A non-service implementation of {@link JournalConfig}.
+     *
+     * @param directory   directory of the journals
+     * @param segmentSize size of a journal segment, in bytes
+     */
+    record MyJournalConfig(Path directory, int segmentSize) implements JournalConfig {
+    }
+
+    /**
+     * An append-only journal of serialized events, stored in memory-mapped segment files.
+     * A segment is a sequence of records, each record is a header followed by the payload; the header is the payload
+     * length plus one, {@code 0} marks the end of the segment. A new segment is created when the current one is full.
+     * <p>
+     * Records are written to the page cache, they survive a crash of the process; segments are forced to the storage
+     * device by {@link #force()} and when the journal is closed, never while appending.
+     */
+    static final class EventJournal implements AutoCloseable {
+
+        private static final int HEADER_SIZE = Integer.BYTES;
+        private static final String SEGMENT_SUFFIX = ".segment";
+
+        private final Path directory;
+        private final int segmentSize;
+        private final List<MappedByteBuffer> rolled = new ArrayList<>();
+        private long segmentIndex;
+        private MappedByteBuffer segment;
+
+        /**
+         * Open a journal, appending after the existing records.
+         *
+         * @param directory   directory of the segments
+         * @param segmentSize size of a segment, in bytes
+         * @throws UncheckedIOException if an I/O error occurs
+         */
+        EventJournal(Path directory, int segmentSize) {
+            this.directory = directory;
+            this.segmentSize = segmentSize;
+            try {
+                Files.createDirectories(directory);
+                var segments = segments();
+                segmentIndex = segments.isEmpty() ? 0 : index(segments.getLast());
+                segment = map(segmentIndex);
+                while (segment.remaining() >= HEADER_SIZE) {
+                    int header = segment.getInt(segment.position());
+                    if (header == 0) {
+                        break;
+                    }
+                    segment.position(segment.position() + HEADER_SIZE + header - 1);
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        /**
+         * Append a record.
+         *
+         * @param payload payload
+         * @throws IllegalArgumentException if the record does not fit in a segment
+         * @throws UncheckedIOException     if an I/O error occurs
+         */
+        synchronized void append(byte[] payload) {
+            int size = HEADER_SIZE + payload.length;
+            if (size > segmentSize) {
+                throw new IllegalArgumentException("Record too large: " + payload.length);
+            }
+            if (segment.remaining() < size) {
+                roll();
+            }
+            int position = segment.position();
+            segment.put(position + HEADER_SIZE, payload);
+            // the header is written last, and the fence keeps the payload writes before it: a reader of the mapped
+            // file that sees the header also sees the payload, a partially written record is never read
+            VarHandle.releaseFence();
+            segment.putInt(position, payload.length + 1);
+            segment.position(position + size);
+        }
+
+        /**
+         * Read all the records in order.
+         * The consumer is given a read-only view of the mapped segment, the payload is not copied.
+         *
+         * @param consumer record consumer
+         * @throws UncheckedIOException if an I/O error occurs
+         */
+        void replay(Consumer<ByteBuffer> consumer) {
+            try {
+                for (var path : segments()) {
+                    MappedByteBuffer buffer;
+                    try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                        buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    }
+                    int position = 0;
+                    while (buffer.limit() - position >= HEADER_SIZE) {
+                        int header = buffer.getInt(position);
+                        if (header == 0) {
+                            break;
+                        }
+                        // pairs with the release fence of append, the payload is read after the header
+                        VarHandle.acquireFence();
+                        consumer.accept(buffer.slice(position + HEADER_SIZE, header - 1));
+                        position += HEADER_SIZE + header - 1;
+                    }
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        /**
+         * Force the segments written since the last call to the storage device.
+         */
+        synchronized void force() {
+            rolled.forEach(MappedByteBuffer::force);
+            rolled.clear();
+            segment.force();
+        }
+
+        /**
+         * Force the segments to the storage device.
+         */
+        @Override
+        public void close() {
+            force();
+        }
+
+        private void roll() {
+            // the full segment is forced later, to keep the storage device latency out of append
+            rolled.add(segment);
+            try {
+                segment = map(++segmentIndex);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        private MappedByteBuffer map(long index) throws IOException {
+            var path = directory.resolve("%020d%s".formatted(index, SEGMENT_SUFFIX));
+            try (var channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            }
+        }
+
+        private List<Path> segments() throws IOException {
+            try (Stream<Path> paths = Files.list(directory)) {
+                return paths.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                        .sorted()
+                        .toList();
+            }
+        }
+
+        private static long index(Path segment) {
+            var fileName = segment.getFileName().toString();
+            return Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length()));
+        }
+    }
+
+    /**
+     * Serializes events to journal records.
+     *
+     * @param <T> event type
+     */
+    interface Codec<T> {
+
+        /**
+         * A codec of string events.
+         */
+        Codec<String> STRING = of(Function.identity(), Function.identity());
+
+        /**
+         * Serialize an event.
+         *
+         * @param event event
+         * @return payload
+         */
+        byte[] encode(T event);
+
+        /**
+         * Deserialize an event.
+         *
+         * @param payload payload
+         * @return event
+         */
+        T decode(ByteBuffer payload);
+
+        /**
+         * Create a codec of events that can be represented as strings.
+         *
+         * @param toString   function to get the string representation of an event
+         * @param fromString function to create an event from its string representation
+         * @param <T>        event type
+         * @return codec
+         */
+        static <T> Codec<T> of(Function<T, String> toString, Function<String, T> fromString) {
+            return new Codec<>() {
+                @Override
+                public byte[] encode(T event) {
+                    return toString.apply(event).getBytes(StandardCharsets.UTF_8);
+                }
+
+                @Override
+                public T decode(ByteBuffer payload) {
+                    return fromString.apply(StandardCharsets.UTF_8.decode(payload).toString());
+                }
+            };
+        }
+    }
+
+    /**
+     * An emitter that appends the events to a journal before emitting them.
+     *
+     * @param <T> event type
+     */
+    static final class JournaledEmitter<T> implements AutoCloseable {
+
+        private final EventJournal journal;
+        private final Codec<T> codec;
+        private final Event.Emitter<T> emitter;
+
+        JournaledEmitter(EventJournal journal, Codec<T> codec, Event.Emitter<T> emitter) {
+            this.journal = journal;
+            this.codec = codec;
+            this.emitter = emitter;
+        }
+
+        /**
+         * Append an event to the journal, and emit it.
+         *
+         * @param event event
+         */
+        void emit(T event) {
+            journal.append(codec.encode(event));
+            emitter.emit(event);
+        }
+
+        /**
+         * Emit all the events of the journal, without appending them again.
+         */
+        void replay() {
+            journal.replay(payload -> emitter.emit(codec.decode(payload)));
+        }
+
+        @Override
+        public void close() {
+            journal.close();
+        }
+    }
+
+    /**
+     * A service that emits {@link EventsExample.MyEvent} durably.
+     * The journal is replayed to the observers when the service is created.
+     */
+    @Service.Singleton
+    static class MyJournaledEmitter {
+
+        private final JournaledEmitter<EventsExample.MyEvent> emitter;
+
+        MyJournaledEmitter(JournalConfig config, Event.Emitter<EventsExample.MyEvent> emitter) {
+            var journal = new EventJournal(config.directory().resolve("my-event"), config.segmentSize());
+            this.emitter = new JournaledEmitter<>(journal,
+                    Codec.of(EventsExample.MyEvent::msg, EventsExample.MyEvent::new),
+                    emitter);
+        }
+
+        @Service.PostConstruct
+        void replay() {
+            emitter.replay();
+        }
+
+        @Service.PreDestroy
+        void close() {
+            emitter.close();
+        }
+
+        void emit(String msg) {
+            emitter.emit(new EventsExample.MyEvent(msg));
+        }
+    }
+
+    /**
+     * A service that emits string events named {@code id} durably.
+     * The journal is replayed to the observers when the service is created.
+     */
+    @Service.Singleton
+    static class MyJournaledIdEmitter {
+
+        private final JournaledEmitter<String> emitter;
+
+        MyJournaledIdEmitter(JournalConfig config, @Service.Named("id") Event.Emitter<String> emitter) {
+            var journal = new EventJournal(config.directory().resolve("id"), config.segmentSize());
+            this.emitter = new JournaledEmitter<>(journal, Codec.STRING, emitter);
+        }
+
+        @Service.PostConstruct
+        void replay() {
+            emitter.replay();
+        }
+
+        @Service.PreDestroy
+        void close() {
+            emitter.close();
+        }
+
+        void emit(String id) {
+            emitter.emit(id);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        var config = ServiceRegistryConfig.builder()
+                // pass the non managed instance of the journal config
+                .putContractInstance(JournalConfig.class, new MyJournalConfig(
+                        Files.createTempDirectory("journal"), 1024 * 1024))
+                .build();
+
+        var registryManager = ServiceRegistryManager.create(config);
+        var registry = registryManager.registry();
+        registry.get(MyJournaledEmitter.class).emit("foo");
+        registry.get(MyJournaledIdEmitter.class).emit("123");
+        registryManager.shutdown();
+
+        // the events are replayed by the emitters of the new registry
+        registry = ServiceRegistryManager.create(config).registry();
+        var myObserver = registry.get(EventsExample.MyObserver.class);
+        var myIdObserver = registry.get(EventsExample.MyIdObserver.class);
+        registry.get(MyJournaledEmitter.class).emit("bar");
+        registry.get(MyJournaledIdEmitter.class).emit("456");
+
+        System.out.println(myObserver.messages);
+        System.out.println(myIdObserver.ids);
+    }
+}
@@ -1,16 +1,33 @@
 package io.helidon.examples.inject;
 
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Target;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
 
+import io.helidon.common.types.Annotation;
+import io.helidon.common.types.TypeName;
+import io.helidon.common.types.TypedElementInfo;
 import io.helidon.service.registry.ServiceRegistryManager;
 import io.helidon.service.registry.Event;
+import io.helidon.service.registry.Interception;
+import io.helidon.service.registry.InterceptionContext;
 import io.helidon.service.registry.Service;
 
 /**
  * An example that illustrates usages of {@link Event}.
  */
-class EventsExample {
+public class EventsExample {
 
     /**
      * A custom event payload.
@@ -92,7 +109,7 @@ class EventsExample {
     @Service.Singleton
     static class MyNameObserver {
 
-        final List<String> names = new ArrayList<>();
+        final List<String> names = Collections.synchronizedList(new ArrayList<>());
 
         @Event.Observer
         @Service.Named("name")
@@ -101,6 +118,660 @@ class EventsExample {
         }
     }
 
+    /**
+     * A service that observes string events named {@code name} through a bounded {@link EventQueue}.
+     * The emitters are not slowed down by the observer, unless the queue is full.
+     */
+    @Service.Singleton
+    static class MyQueuedNameObserver {
+
+        final List<String> names = new ArrayList<>();
+        final EventQueue<String> queue = new EventQueue<>(64, OverflowPolicy.BLOCK, names::add);
+
+        @Event.Observer
+        @Service.Named("name")
+        void event(String name) {
+            queue.on(name);
+        }
+
+        @Service.PreDestroy
+        void close() {
+            queue.close();
+        }
+    }
+
+    /**
+     * An event of an ordered stream of events, e.g. the updates of an order.
+     *
+     * @param key      key of the stream
+     * @param sequence sequence number of the event in the stream
+     */
+    record MyOrderEvent(String key, int sequence) {
+    }
+
+    /**
+     * A service that emits {@link MyOrderEvent}.
+     *
+     * @param emitter emitter
+     */
+    @Service.Singleton
+    record MyOrderEmitter(Event.Emitter<MyOrderEvent> emitter) {
+
+        void emit(String key, int sequence) {
+            emitter.emit(new MyOrderEvent(key, sequence));
+        }
+    }
+
+    /**
+     * A service that observes {@link MyOrderEvent} asynchronously, in order for each key.
+     * The partitions are consumed by dedicated threads, that are stopped when the registry is shut down.
+     */
+    @Service.Singleton
+    static class MyPartitionedObserver {
+
+        final Map<String, List<Integer>> sequences = new ConcurrentHashMap<>();
+        final PartitionedListener<MyOrderEvent> listener = new PartitionedListener<>(
+                Runtime.getRuntime().availableProcessors(), 64, MyOrderEvent::key,
+                // the events of a key are delivered by a single thread
+                event -> sequences.computeIfAbsent(event.key(), k -> new ArrayList<>()).add(event.sequence()));
+
+        @Event.Observer
+        void event(MyOrderEvent event) {
+            listener.on(event);
+        }
+
+        @Service.PreDestroy
+        void close() {
+            listener.close();
+        }
+    }
+
+    /**
+     * A custom event payload delivered asynchronously.
+     *
+     * @param msg message
+     */
+    record MyAsyncEvent(String msg) {
+    }
+
+    /**
+     * A service that emits {@link MyAsyncEvent} asynchronously.
+     * Each asynchronous observer is notified on its own thread, the emitter does not wait for the observers.
+     *
+     * @param emitter emitter
+     */
+    @Service.Singleton
+    record MyAsyncEmitter(Event.Emitter<MyAsyncEvent> emitter) {
+
+        /**
+         * Emit an event.
+         *
+         * @param msg message
+         * @return completion stage, completed when all observers are notified, or completed exceptionally with all
+         *         the observer failures as suppressed exceptions
+         */
+        CompletionStage<MyAsyncEvent> emit(String msg) {
+            return emitter.emitAsync(new MyAsyncEvent(msg));
+        }
+    }
+
+    /**
+     * A service that observes {@link MyAsyncEvent} asynchronously.
+     */
+    @Service.Singleton
+    static class MyAsyncObserver {
+
+        final List<String> messages = new CopyOnWriteArrayList<>();
+
+        @Event.AsyncObserver
+        void event(MyAsyncEvent event) {
+            messages.add(event.msg);
+        }
+    }
+
+    /**
+     * A contract for observers that are bound to a {@link DispatchTable} at injection time.
+     *
+     * @param <T> event type
+     */
+    public interface Listener<T> {
+
+        /**
+         * Handle an event.
+         *
+         * @param event event
+         */
+        void on(T event);
+
+        /**
+         * Handle a batch of events.
+         * Override to amortize the per-event overhead over the batch.
+         *
+         * @param events events
+         */
+        default void onAll(List<T> events) {
+            for (var event : events) {
+                on(event);
+            }
+        }
+    }
+
+    /**
+     * A table of listeners, resolved once by the registry for an event type and qualifier.
+     * Dispatching an event walks the table, without any per-event lookup or qualifier matching.
+     * The bindings of a registry do not change once it is created, thus the table never needs to be rebuilt.
+     *
+     * @param <T> event type
+     */
+    static final class DispatchTable<T> {
+
+        private final Listener<T>[] listeners;
+
+        @SuppressWarnings("unchecked")
+        DispatchTable(List<? extends Listener<T>> listeners) {
+            this.listeners = listeners.toArray(Listener[]::new);
+        }
+
+        /**
+         * Dispatch an event to all the listeners.
+         *
+         * @param event event
+         * @throws IllegalStateException if listeners fail, the failures are added as suppressed exceptions
+         */
+        void dispatch(T event) {
+            IllegalStateException error = null;
+            for (var listener : listeners) {
+                try {
+                    listener.on(event);
+                } catch (RuntimeException ex) {
+                    if (error == null) {
+                        error = new IllegalStateException("Failed to dispatch event: " + event);
+                    }
+                    error.addSuppressed(ex);
+                }
+            }
+            if (error != null) {
+                throw error;
+            }
+        }
+
+        /**
+         * Dispatch a batch of events to all the listeners, each listener is invoked once with all the events.
+         *
+         * @param events events
+         * @throws IllegalStateException if listeners fail, the failures are added as suppressed exceptions
+         */
+        void dispatchAll(Collection<? extends T> events) {
+            List<T> batch = List.copyOf(events);
+            IllegalStateException error = null;
+            for (var listener : listeners) {
+                try {
+                    listener.onAll(batch);
+                } catch (RuntimeException ex) {
+                    if (error == null) {
+                        error = new IllegalStateException("Failed to dispatch %d events".formatted(batch.size()));
+                    }
+                    error.addSuppressed(ex);
+                }
+            }
+            if (error != null) {
+                throw error;
+            }
+        }
+    }
+
+    /**
+     * Policies applied when an {@link EventQueue} is full.
+     */
+    enum OverflowPolicy {
+
+        /**
+         * Wait until the queue has room for the event.
+         */
+        BLOCK,
+
+        /**
+         * Drop the oldest queued event to make room for the event.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Drop the event.
+         */
+        DROP_NEWEST,
+
+        /**
+         * Throw an {@link IllegalStateException}.
+         */
+        FAIL
+    }
+
+    /**
+     * A bounded, lock-free event queue that delivers events to a listener on a dedicated virtual thread.
+     * Events are stored in a preallocated ring buffer, a slow listener thus cannot grow the memory used by the queue
+     * past its capacity: the {@link OverflowPolicy} decides what happens when the queue is full.
+     *
+     * @param <T> event type
+     */
+    static final class EventQueue<T> implements Listener<T>, AutoCloseable {
+
+        private final RingSequencer sequencer;
+        private final Object[] buffer;
+        private final LongAdder dropped = new LongAdder();
+        private final OverflowPolicy policy;
+        private final Listener<T> listener;
+        private final Thread consumer;
+        private volatile boolean closed;
+
+        /**
+         * Create a new queue.
+         *
+         * @param capacity capacity, rounded up to a power of two
+         * @param policy   overflow policy
+         * @param listener listener to deliver the events to
+         */
+        EventQueue(int capacity, OverflowPolicy policy, Listener<T> listener) {
+            this.sequencer = new RingSequencer(capacity);
+            this.buffer = new Object[sequencer.capacity()];
+            this.policy = policy;
+            this.listener = listener;
+            this.consumer = Thread.ofVirtual().name("event-queue").start(this::consume);
+        }
+
+        /**
+         * Enqueue an event, applying the overflow policy if the queue is full.
+         *
+         * @param event event
+         * @throws IllegalStateException if the queue is full and the policy is {@link OverflowPolicy#FAIL}, or if
+         *                               the queue is closed
+         */
+        @Override
+        public void on(T event) {
+            if (closed) {
+                throw new IllegalStateException("Queue closed");
+            }
+            while (!offer(event)) {
+                switch (policy) {
+                    case BLOCK -> {
+                        if (closed) {
+                            throw new IllegalStateException("Queue closed");
+                        }
+                        LockSupport.parkNanos(1000);
+                    }
+                    case DROP_OLDEST -> {
+                        if (poll() != null) {
+                            dropped.increment();
+                        }
+                    }
+                    case DROP_NEWEST -> {
+                        dropped.increment();
+                        return;
+                    }
+                    case FAIL -> throw new IllegalStateException("Queue full");
+                    default -> throw new IllegalStateException("Unsupported policy: " + policy);
+                }
+            }
+            LockSupport.unpark(consumer);
+        }
+
+        /**
+         * Get the number of queued events.
+         *
+         * @return depth
+         */
+        int depth() {
+            return sequencer.size();
+        }
+
+        /**
+         * Get the capacity.
+         *
+         * @return capacity
+         */
+        int capacity() {
+            return sequencer.capacity();
+        }
+
+        /**
+         * Get the number of dropped events.
+         *
+         * @return dropped events
+         */
+        long dropped() {
+            return dropped.sum();
+        }
+
+        /**
+         * Close the queue, the queued events are delivered before this method returns.
+         * Events enqueued concurrently with this method may not be delivered.
+         */
+        @Override
+        public void close() {
+            closed = true;
+            LockSupport.unpark(consumer);
+            try {
+                consumer.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private boolean offer(T event) {
+            long position = sequencer.claim();
+            if (position < 0) {
+                return false;
+            }
+            buffer[sequencer.index(position)] = event;
+            sequencer.publish(position);
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T poll() {
+            long position = sequencer.acquire();
+            if (position < 0) {
+                return null;
+            }
+            int index = sequencer.index(position);
+            T event = (T) buffer[index];
+            buffer[index] = null;
+            sequencer.release(position);
+            return event;
+        }
+
+        private void consume() {
+            while (true) {
+                T event = poll();
+                if (event != null) {
+                    try {
+                        listener.on(event);
+                    } catch (RuntimeException ex) {
+                        // a failing listener must not stop the delivery of the next events
+                        var thread = Thread.currentThread();
+                        thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+                    }
+                } else if (closed) {
+                    if (sequencer.isEmpty()) {
+                        return;
+                    }
+                } else {
+                    // producers unpark the consumer after each event
+                    LockSupport.park(this);
+                }
+            }
+        }
+    }
+
+    /**
+     * A listener that delivers events asynchronously, in order for a given key and in parallel across keys.
+     * Events are routed by key hash to a fixed number of partitions, each partition is an {@link EventQueue} with a
+     * single consumer thread.
+     *
+     * @param <T> event type
+     */
+    static final class PartitionedListener<T> implements Listener<T>, AutoCloseable {
+
+        private final List<EventQueue<T>> partitions;
+        private final Function<T, ?> keyExtractor;
+
+        /**
+         * Create a new partitioned listener.
+         *
+         * @param partitions   number of partitions
+         * @param capacity     capacity of each partition
+         * @param keyExtractor function to get the key of an event
+         * @param listener     listener to deliver the events to, invoked concurrently for events of different keys
+         */
+        PartitionedListener(int partitions, int capacity, Function<T, ?> keyExtractor, Listener<T> listener) {
+            var queues = new ArrayList<EventQueue<T>>(partitions);
+            for (int i = 0; i < partitions; i++) {
+                queues.add(new EventQueue<>(capacity, OverflowPolicy.BLOCK, listener));
+            }
+            this.partitions = List.copyOf(queues);
+            this.keyExtractor = keyExtractor;
+        }
+
+        @Override
+        public void on(T event) {
+            int hash = keyExtractor.apply(event).hashCode();
+            // spread the high bits, keys often differ only in their last characters
+            hash ^= hash >>> 16;
+            partitions.get(Math.floorMod(hash, partitions.size())).on(event);
+        }
+
+        /**
+         * Close all the partitions, the queued events are delivered before this method returns.
+         */
+        @Override
+        public void close() {
+            partitions.forEach(EventQueue::close);
+        }
+    }
+
+    /**
+     * A service that dispatches string events named {@code id} using a {@link DispatchTable}.
+     */
+    @Service.Singleton
+    static class MyIdDispatcher {
+
+        private final DispatchTable<String> table;
+
+        MyIdDispatcher(@Service.Named("id") List<Listener<String>> listeners) {
+            this.table = new DispatchTable<>(listeners);
+        }
+
+        void emit(String id) {
+            table.dispatch(id);
+        }
+
+        void emitAll(Collection<String> ids) {
+            table.dispatchAll(ids);
+        }
+    }
+
+    /**
+     * A service that listens to string events named {@code id}.
+     */
+    @Service.Singleton
+    @Service.Named("id")
+    static class MyIdListener implements Listener<String> {
+
+        final List<String> ids = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void on(String id) {
+            ids.add(id);
+        }
+
+        @Override
+        public void onAll(List<String> ids) {
+            // a single lock acquisition for the batch
+            this.ids.addAll(ids);
+        }
+    }
+
+    /**
+     * A service that observes {@link MyEvent}, the deliveries are recorded by {@link EventMetrics}.
+     */
+    @Service.Singleton
+    static class MyObservedObserver {
+
+        @Event.Observer
+        @Observed
+        void event(MyEvent event) {
+        }
+    }
+
+    /**
+     * A service that observes string events named {@code name}, the deliveries are recorded by {@link EventMetrics}.
+     */
+    @Service.Singleton
+    static class MyObservedNameObserver {
+
+        @Event.Observer
+        @Observed
+        @Service.Named("name")
+        void event(String name) {
+        }
+    }
+
+    /**
+     * An annotation to mark observer methods whose deliveries are recorded by {@link EventMetrics}.
+     */
+    @Interception.Intercepted
+    @Target(ElementType.METHOD)
+    @interface Observed {
+    }
+
+    /**
+     * Identifies an observer method.
+     *
+     * @param eventType event type
+     * @param qualifier name of the observed events, empty if the observer is not named
+     * @param observer  observer method, i.e. {@code <service type>.<method name>}
+     */
+    record ObserverKey(TypeName eventType, String qualifier, String observer) {
+
+        static ObserverKey create(TypeName serviceType, TypedElementInfo element) {
+            var qualifier = element.annotations().stream()
+                    .filter(annotation -> annotation.typeName().equals(Service.Named.TYPE))
+                    .findFirst()
+                    .flatMap(Annotation::value)
+                    .orElse("");
+            return new ObserverKey(element.parameterArguments().getFirst().typeName(),
+                    qualifier,
+                    serviceType.fqName() + "." + element.elementName());
+        }
+    }
+
+    /**
+     * A snapshot of the metrics of an observer method.
+     *
+     * @param key     observer method
+     * @param emits   number of delivered events
+     * @param errors  number of deliveries that failed
+     * @param latency latency of the deliveries
+     */
+    record ObserverSnapshot(ObserverKey key, long emits, long errors, LatencyHistogram.Snapshot latency) {
+    }
+
+    /**
+     * The metrics of an observer method.
+     * Recording a delivery does not lock and does not allocate.
+     */
+    static final class ObserverMetrics {
+
+        private final ObserverKey key;
+        private final LongAdder emits = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        ObserverMetrics(ObserverKey key) {
+            this.key = key;
+        }
+
+        /**
+         * Record a delivery.
+         *
+         * @param nanos  duration of the delivery, in nanoseconds
+         * @param failed {@code true} if the observer threw an exception
+         */
+        void record(long nanos, boolean failed) {
+            emits.increment();
+            if (failed) {
+                errors.increment();
+            }
+            latency.record(nanos);
+        }
+
+        /**
+         * Create a snapshot.
+         *
+         * @return snapshot
+         */
+        ObserverSnapshot snapshot() {
+            return new ObserverSnapshot(key, emits.sum(), errors.sum(), latency.snapshot());
+        }
+    }
+
+    /**
+     * A service that holds the metrics of the {@link Observed} observer methods.
+     */
+    @Service.Singleton
+    static class EventMetrics {
+
+        private final ElementRegistry<ObserverMetrics> metrics = new ElementRegistry<>(
+                (serviceType, element) -> new ObserverMetrics(ObserverKey.create(serviceType, element)));
+
+        /**
+         * Get the metrics of an observer method, created on first use.
+         *
+         * @param serviceType service type
+         * @param element     observer method
+         * @return metrics
+         */
+        ObserverMetrics observer(TypeName serviceType, TypedElementInfo element) {
+            return metrics.get(serviceType, element);
+        }
+
+        /**
+         * Create a snapshot of the metrics of all the observer methods that received events.
+         *
+         * @return snapshots, sorted by observer
+         */
+        List<ObserverSnapshot> snapshot() {
+            var snapshots = new ArrayList<ObserverSnapshot>();
+            metrics.forEach((element, observer) -> snapshots.add(observer.snapshot()));
+            snapshots.sort(Comparator.comparing(snapshot -> snapshot.key().observer()));
+            return snapshots;
+        }
+
+        /**
+         * Create a snapshot of the metrics of the observer methods of a service.
+         *
+         * @param serviceType service type
+         * @return snapshots, empty if the service did not receive events
+         */
+        List<ObserverSnapshot> snapshot(Class<?> serviceType) {
+            var typeName = TypeName.create(serviceType);
+            var snapshots = new ArrayList<ObserverSnapshot>();
+            metrics.forEach((element, observer) -> {
+                if (element.serviceType().equals(typeName)) {
+                    snapshots.add(observer.snapshot());
+                }
+            });
+            return snapshots;
+        }
+    }
+
+    /**
+     * An interceptor that records the deliveries to {@link Observed} observer methods into {@link EventMetrics}.
+     */
+    @Service.Singleton
+    @Service.NamedByType(Observed.class)
+    static class ObservedInterceptor implements Interception.Interceptor {
+
+        private final EventMetrics metrics;
+
+        ObservedInterceptor(EventMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        public <V> V proceed(InterceptionContext ctx, Chain<V> chain, Object... args) throws Exception {
+            var observer = metrics.observer(ctx.serviceInfo().serviceType(), ctx.elementInfo());
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                V result = chain.proceed(args);
+                failed = false;
+                return result;
+            } finally {
+                observer.record(System.nanoTime() - start, failed);
+            }
+        }
+    }
+
     public static void main(String[] args) {
         var registry = ServiceRegistryManager.create().registry();
         var myEmitter = registry.get(MyEmitter.class);
@@ -111,6 +782,7 @@ class EventsExample {
         var myNameObserver = registry.get(MyNameObserver.class);
 
         myEmitter.emit("foo");
+        registry.get(EventMetrics.class).snapshot(MyObservedObserver.class).forEach(System.out::println);
         myEmitter.emit("bar");
         System.out.println(myObserver.messages);
 
@@ -121,5 +793,16 @@ class EventsExample {
         myNameEmitter.emit("Jack");
         myNameEmitter.emit("Jill");
         System.out.println(myNameObserver.names);
+
+        var myIdDispatcher = registry.get(MyIdDispatcher.class);
+        var myIdListener = registry.get(MyIdListener.class);
+        myIdDispatcher.emit("789");
+        myIdDispatcher.emitAll(List.of("1011", "1213"));
+        System.out.println(myIdListener.ids);
+
+        var myAsyncEmitter = registry.get(MyAsyncEmitter.class);
+        var myAsyncObserver = registry.get(MyAsyncObserver.class);
+        myAsyncEmitter.emit("baz").toCompletableFuture().join();
+        System.out.println(myAsyncObserver.messages);
     }
 }
@@ -0,0 +1,562 @@
+package io.helidon.examples.inject;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Target;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.helidon.common.types.ElementKind;
+import io.helidon.common.types.TypeName;
+import io.helidon.common.types.TypeNames;
+import io.helidon.common.types.TypedElementInfo;
+import io.helidon.service.registry.Interception;
+import io.helidon.service.registry.InterceptionContext;
+import io.helidon.service.registry.Lookup;
+import io.helidon.service.registry.Service;
+import io.helidon.service.registry.ServiceInfo;
+import io.helidon.service.registry.ServiceRegistry;
+import io.helidon.service.registry.ServiceRegistryManager;
+
+/**
+ * An example that illustrates an allocation-free invocation path for interceptors.
+ * <p>
+ * {@link Interception.Interceptor#proceed(InterceptionContext, Interception.Interceptor.Chain, Object...)} takes the
+ * arguments as an {@code Object[]}, every intercepted call thus allocates an array and boxes its primitive arguments.
+ * {@link FastInterceptor} adds a method per arity (0 to 4 arguments) and primitive variants; {@link Invokers} binds
+ * the interceptors once into a chain of specialized invokers, used when all the interceptors support the fast form.
+ * This is the code a generator would emit for an intercepted method, it is written by hand in
+ * {@link MyFastCounter}.
+ */
+class FastInterceptorExample {
+
+    /**
+     * An annotation to mark methods to be intercepted by {@link CountingInterceptor}.
+     */
+    @Interception.Intercepted
+    @Target({ElementType.METHOD, ElementType.CONSTRUCTOR})
+    @interface Counted {
+    }
+
+    /**
+     * An invocation without arguments.
+     *
+     * @param <V> return type
+     */
+    interface Invoker0<V> {
+        V invoke() throws Exception;
+    }
+
+    /**
+     * An invocation with one argument.
+     *
+     * @param <A> argument type
+     * @param <V> return type
+     */
+    interface Invoker1<A, V> {
+        V invoke(A a) throws Exception;
+    }
+
+    /**
+     * An invocation with two arguments.
+     *
+     * @param <A> first argument type
+     * @param <B> second argument type
+     * @param <V> return type
+     */
+    interface Invoker2<A, B, V> {
+        V invoke(A a, B b) throws Exception;
+    }
+
+    /**
+     * An invocation with three arguments.
+     *
+     * @param <A> first argument type
+     * @param <B> second argument type
+     * @param <C> third argument type
+     * @param <V> return type
+     */
+    interface Invoker3<A, B, C, V> {
+        V invoke(A a, B b, C c) throws Exception;
+    }
+
+    /**
+     * An invocation with four arguments.
+     *
+     * @param <A> first argument type
+     * @param <B> second argument type
+     * @param <C> third argument type
+     * @param <D> fourth argument type
+     * @param <V> return type
+     */
+    interface Invoker4<A, B, C, D, V> {
+        V invoke(A a, B b, C c, D d) throws Exception;
+    }
+
+    /**
+     * An invocation of an {@code int} function of an {@code int}.
+     */
+    interface IntInvoker {
+        int invoke(int a) throws Exception;
+    }
+
+    /**
+     * An invocation of a {@code long} function of a {@code long}.
+     */
+    interface LongInvoker {
+        long invoke(long a) throws Exception;
+    }
+
+    /**
+     * An interceptor that supports invocations without an arguments array.
+     * The default methods delegate to the generic form, an implementation overrides them to avoid the allocation.
+     */
+    interface FastInterceptor extends Interception.Interceptor {
+
+        default <V> V proceed0(InterceptionContext ctx, Invoker0<V> next) throws Exception {
+            return proceed(ctx, args -> next.invoke());
+        }
+
+        @SuppressWarnings("unchecked")
+        default <A, V> V proceed1(InterceptionContext ctx, Invoker1<A, V> next, A a) throws Exception {
+            return proceed(ctx, args -> next.invoke((A) args[0]), a);
+        }
+
+        @SuppressWarnings("unchecked")
+        default <A, B, V> V proceed2(InterceptionContext ctx, Invoker2<A, B, V> next, A a, B b) throws Exception {
+            return proceed(ctx, args -> next.invoke((A) args[0], (B) args[1]), a, b);
+        }
+
+        @SuppressWarnings("unchecked")
+        default <A, B, C, V> V proceed3(InterceptionContext ctx,
+                                        Invoker3<A, B, C, V> next,
+                                        A a,
+                                        B b,
+                                        C c) throws Exception {
+            return proceed(ctx, args -> next.invoke((A) args[0], (B) args[1], (C) args[2]), a, b, c);
+        }
+
+        @SuppressWarnings("unchecked")
+        default <A, B, C, D, V> V proceed4(InterceptionContext ctx,
+                                           Invoker4<A, B, C, D, V> next,
+                                           A a,
+                                           B b,
+                                           C c,
+                                           D d) throws Exception {
+            return proceed(ctx, args -> next.invoke((A) args[0], (B) args[1], (C) args[2], (D) args[3]), a, b, c, d);
+        }
+
+        default int proceedInt(InterceptionContext ctx, IntInvoker next, int a) throws Exception {
+            Integer result = proceed(ctx, args -> next.invoke((Integer) args[0]), a);
+            return result;
+        }
+
+        default long proceedLong(InterceptionContext ctx, LongInvoker next, long a) throws Exception {
+            Long result = proceed(ctx, args -> next.invoke((Long) args[0]), a);
+            return result;
+        }
+    }
+
+    /**
+     * Binds interceptors to a target invocation.
+     * If all the interceptors are {@link FastInterceptor}s, the returned invoker calls them without allocating;
+     * otherwise it calls them with an arguments array, like the registry does.
+     */
+    static final class Invokers {
+
+        private Invokers() {
+        }
+
+        /**
+         * Bind interceptors to an invocation without arguments.
+         *
+         * @param ctx          interception context
+         * @param interceptors interceptors, in order
+         * @param target       target invocation
+         * @return invoker
+         */
+        static <V> Invoker0<V> chain0(InterceptionContext ctx,
+                                      List<Interception.Interceptor> interceptors,
+                                      Invoker0<V> target) {
+            if (!fast(interceptors)) {
+                Interception.Interceptor.Chain<V> chain = chain(ctx, interceptors,
+                        args -> target.invoke());
+                return () -> chain.proceed(new Object[0]);
+            }
+            Invoker0<V> invoker = target;
+            for (int i = interceptors.size() - 1; i >= 0; i--) {
+                var interceptor = (FastInterceptor) interceptors.get(i);
+                var next = invoker;
+                invoker = () -> interceptor.proceed0(ctx, next);
+            }
+            return invoker;
+        }
+
+        /**
+         * Bind interceptors to an invocation with one argument.
+         *
+         * @param ctx          interception context
+         * @param interceptors interceptors, in order
+         * @param target       target invocation
+         * @return invoker
+         */
+        @SuppressWarnings("unchecked")
+        static <A, V> Invoker1<A, V> chain1(InterceptionContext ctx,
+                                            List<Interception.Interceptor> interceptors,
+                                            Invoker1<A, V> target) {
+            if (!fast(interceptors)) {
+                Interception.Interceptor.Chain<V> chain = chain(ctx, interceptors,
+                        args -> target.invoke((A) args[0]));
+                return a -> chain.proceed(new Object[] {a});
+            }
+            Invoker1<A, V> invoker = target;
+            for (int i = interceptors.size() - 1; i >= 0; i--) {
+                var interceptor = (FastInterceptor) interceptors.get(i);
+                var next = invoker;
+                invoker = a -> interceptor.proceed1(ctx, next, a);
+            }
+            return invoker;
+        }
+
+        /**
+         * Bind interceptors to an invocation with two arguments.
+         *
+         * @param ctx          interception context
+         * @param interceptors interceptors, in order
+         * @param target       target invocation
+         * @return invoker
+         */
+        @SuppressWarnings("unchecked")
+        static <A, B, V> Invoker2<A, B, V> chain2(InterceptionContext ctx,
+                                                  List<Interception.Interceptor> interceptors,
+                                                  Invoker2<A, B, V> target) {
+            if (!fast(interceptors)) {
+                Interception.Interceptor.Chain<V> chain = chain(ctx, interceptors,
+                        args -> target.invoke((A) args[0], (B) args[1]));
+                return (a, b) -> chain.proceed(new Object[] {a, b});
+            }
+            Invoker2<A, B, V> invoker = target;
+            for (int i = interceptors.size() - 1; i >= 0; i--) {
+                var interceptor = (FastInterceptor) interceptors.get(i);
+                var next = invoker;
+                invoker = (a, b) -> interceptor.proceed2(ctx, next, a, b);
+            }
+            return invoker;
+        }
+
+        /**
+         * Bind interceptors to an invocation with three arguments.
+         *
+         * @param ctx          interception context
+         * @param interceptors interceptors, in order
+         * @param target       target invocation
+         * @return invoker
+         */
+        @SuppressWarnings("unchecked")
+        static <A, B, C, V> Invoker3<A, B, C, V> chain3(InterceptionContext ctx,
+                                                        List<Interception.Interceptor> interceptors,
+                                                        Invoker3<A, B, C, V> target) {
+            if (!fast(interceptors)) {
+                Interception.Interceptor.Chain<V> chain = chain(ctx, interceptors,
+                        args -> target.invoke((A) args[0], (B) args[1], (C) args[2]));
+                return (a, b, c) -> chain.proceed(new Object[] {a, b, c});
+            }
+            Invoker3<A, B, C, V> invoker = target;
+            for (int i = interceptors.size() - 1; i >= 0; i--) {
+                var interceptor = (FastInterceptor) interceptors.get(i);
+                var next = invoker;
+                invoker = (a, b, c) -> interceptor.proceed3(ctx, next, a, b, c);
+            }
+            return invoker;
+        }
+
+        /**
+         * Bind interceptors to an invocation with four arguments.
+         *
+         * @param ctx          interception context
+         * @param interceptors interceptors, in order
+         * @param target       target invocation
+         * @return invoker
+         */
+        @SuppressWarnings("unchecked")
+        static <A, B, C, D, V> Invoker4<A, B, C, D, V> chain4(InterceptionContext ctx,
+                                                              List<Interception.Interceptor> interceptors,
+                                                              Invoker4<A, B, C, D, V> target) {
+            if (!fast(interceptors)) {
+                Interception.Interceptor.Chain<V> chain = chain(ctx, interceptors,
+                        args -> target.invoke((A) args[0], (B) args[1], (C) args[2], (D) args[3]));
+                return (a, b, c, d) -> chain.proceed(new Object[] {a, b, c, d});
+            }
+            Invoker4<A, B, C, D, V> invoker = target;
+            for (int i = interceptors.size() - 1; i >= 0; i--) {
+                var interceptor = (FastInterceptor) interceptors.get(i);
+                var next = invoker;
+                invoker = (a, b, c, d) -> interceptor.proceed4(ctx, next, a, b, c, d);
+            }
+            return invoker;
+        }
+
+        /**
+         * Bind interceptors to an {@code int} invocation.
+         *
+         * @param ctx          interception context
+         * @param interceptors interceptors, in order
+         * @param target       target invocation
+         * @return invoker
+         */
+        static IntInvoker chainInt(InterceptionContext ctx,
+                                   List<Interception.Interceptor> interceptors,
+                                   IntInvoker target) {
+            if (!fast(interceptors)) {
+                Interception.Interceptor.Chain<Integer> chain = chain(ctx, interceptors,
+                        args -> target.invoke((Integer) args[0]));
+                return a -> chain.proceed(new Object[] {a});
+            }
+            IntInvoker invoker = target;
+            for (int i = interceptors.size() - 1; i >= 0; i--) {
+                var interceptor = (FastInterceptor) interceptors.get(i);
+                var next = invoker;
+                invoker = a -> interceptor.proceedInt(ctx, next, a);
+            }
+            return invoker;
+        }
+
+        /**
+         * Bind interceptors to a {@code long} invocation.
+         *
+         * @param ctx          interception context
+         * @param interceptors interceptors, in order
+         * @param target       target invocation
+         * @return invoker
+         */
+        static LongInvoker chainLong(InterceptionContext ctx,
+                                     List<Interception.Interceptor> interceptors,
+                                     LongInvoker target) {
+            if (!fast(interceptors)) {
+                Interception.Interceptor.Chain<Long> chain = chain(ctx, interceptors,
+                        args -> target.invoke((Long) args[0]));
+                return a -> chain.proceed(new Object[] {a});
+            }
+            LongInvoker invoker = target;
+            for (int i = interceptors.size() - 1; i >= 0; i--) {
+                var interceptor = (FastInterceptor) interceptors.get(i);
+                var next = invoker;
+                invoker = a -> interceptor.proceedLong(ctx, next, a);
+            }
+            return invoker;
+        }
+
+        /**
+         * Create the context of an intercepted method.
+         *
+         * @param serviceInfo    service
+         * @param elementName    method name
+         * @param returnType     return type
+         * @param parameterTypes parameter types
+         * @return context
+         */
+        static InterceptionContext context(ServiceInfo serviceInfo,
+                                           String elementName,
+                                           TypeName returnType,
+                                           TypeName... parameterTypes) {
+            var element = TypedElementInfo.builder()
+                    .kind(ElementKind.METHOD)
+                    .elementName(elementName)
+                    .typeName(returnType);
+            for (int i = 0; i < parameterTypes.length; i++) {
+                element.addParameterArgument(TypedElementInfo.builder()
+                        .kind(ElementKind.PARAMETER)
+                        .elementName("arg" + i)
+                        .typeName(parameterTypes[i])
+                        .build());
+            }
+            return InterceptionContext.builder()
+                    .serviceInfo(serviceInfo)
+                    .typeAnnotations(List.of())
+                    .elementInfo(element.build())
+                    .build();
+        }
+
+        private static boolean fast(List<Interception.Interceptor> interceptors) {
+            for (var interceptor : interceptors) {
+                if (!(interceptor instanceof FastInterceptor)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static <V> Interception.Interceptor.Chain<V> chain(InterceptionContext ctx,
+                                                                   List<Interception.Interceptor> interceptors,
+                                                                   Interception.Interceptor.Chain<V> target) {
+            var chain = target;
+            for (int i = interceptors.size() - 1; i >= 0; i--) {
+                var interceptor = interceptors.get(i);
+                var next = chain;
+                chain = args -> interceptor.proceed(ctx, next, args);
+            }
+            return chain;
+        }
+    }
+
+    /**
+     * An interceptor that supports {@link Counted}, in both the generic and the fast forms.
+     */
+    @Service.Singleton
+    @Service.NamedByType(Counted.class)
+    static class CountingInterceptor implements FastInterceptor {
+
+        final LongAdder invocations = new LongAdder();
+
+        @Override
+        public <V> V proceed(InterceptionContext ctx, Chain<V> chain, Object... args) throws Exception {
+            invocations.increment();
+            return chain.proceed(args);
+        }
+
+        @Override
+        public <V> V proceed0(InterceptionContext ctx, Invoker0<V> next) throws Exception {
+            invocations.increment();
+            return next.invoke();
+        }
+
+        @Override
+        public <A, V> V proceed1(InterceptionContext ctx, Invoker1<A, V> next, A a) throws Exception {
+            invocations.increment();
+            return next.invoke(a);
+        }
+
+        @Override
+        public <A, B, V> V proceed2(InterceptionContext ctx, Invoker2<A, B, V> next, A a, B b) throws Exception {
+            invocations.increment();
+            return next.invoke(a, b);
+        }
+
+        @Override
+        public <A, B, C, V> V proceed3(InterceptionContext ctx,
+                                       Invoker3<A, B, C, V> next,
+                                       A a,
+                                       B b,
+                                       C c) throws Exception {
+            invocations.increment();
+            return next.invoke(a, b, c);
+        }
+
+        @Override
+        public <A, B, C, D, V> V proceed4(InterceptionContext ctx,
+                                          Invoker4<A, B, C, D, V> next,
+                                          A a,
+                                          B b,
+                                          C c,
+                                          D d) throws Exception {
+            invocations.increment();
+            return next.invoke(a, b, c, d);
+        }
+
+        @Override
+        public int proceedInt(InterceptionContext ctx, IntInvoker next, int a) throws Exception {
+            invocations.increment();
+            return next.invoke(a);
+        }
+
+        @Override
+        public long proceedLong(InterceptionContext ctx, LongInvoker next, long a) throws Exception {
+            invocations.increment();
+            return next.invoke(a);
+        }
+    }
+
+    /**
+     * A singleton service with intercepted methods, invoked by the registry with an arguments array.
+     */
+    @Service.Singleton
+    static class MyCounter {
+
+        @Counted
+        String hello() {
+            return "Hello!";
+        }
+
+        @Counted
+        String min(String a, String b) {
+            return a.compareTo(b) <= 0 ? a : b;
+        }
+
+        @Counted
+        long increment(long value) {
+            return value + 1;
+        }
+    }
+
+    /**
+     * A singleton service that invokes the methods of {@link MyCounter} through specialized invokers.
+     * The instance of {@link MyCounter} is not managed by the registry, its methods are thus not intercepted by the
+     * registry.
+     */
+    @Service.Singleton
+    static class MyFastCounter {
+
+        private final Invoker0<String> hello;
+        private final Invoker2<String, String, String> min;
+        private final LongInvoker increment;
+
+        MyFastCounter(ServiceRegistry registry,
+                      @Service.NamedByType(Counted.class) List<Interception.Interceptor> interceptors) {
+            var target = new MyCounter();
+            var serviceInfo = registry.lookupServices(Lookup.create(MyFastCounter.class)).getFirst();
+            this.hello = Invokers.chain0(
+                    Invokers.context(serviceInfo, "hello", TypeNames.STRING),
+                    interceptors, target::hello);
+            this.min = Invokers.chain2(
+                    Invokers.context(serviceInfo, "min", TypeNames.STRING, TypeNames.STRING, TypeNames.STRING),
+                    interceptors, target::min);
+            this.increment = Invokers.chainLong(
+                    Invokers.context(serviceInfo, "increment", TypeNames.PRIMITIVE_LONG, TypeNames.PRIMITIVE_LONG),
+                    interceptors, target::increment);
+        }
+
+        String hello() {
+            try {
+                return hello.invoke();
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        String min(String a, String b) {
+            try {
+                return min.invoke(a, b);
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        long increment(long value) {
+            try {
+                return increment.invoke(value);
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        var registry = ServiceRegistryManager.create().registry();
+        var myCounter = registry.get(MyCounter.class);
+        var myFastCounter = registry.get(MyFastCounter.class);
+        var interceptor = registry.get(CountingInterceptor.class);
+
+        System.out.println(myCounter.hello());
+        System.out.println(myCounter.min("Joe", "Jack"));
+        System.out.println(myCounter.increment(41));
+        System.out.println(myFastCounter.hello());
+        System.out.println(myFastCounter.min("Joe", "Jack"));
+        System.out.println(myFastCounter.increment(41));
+        System.out.printf("invocations: %d%n", interceptor.invocations.sum());
+    }
+}
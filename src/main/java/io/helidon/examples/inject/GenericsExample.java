@@ -1,7 +1,20 @@
 package io.helidon.examples.inject;
 
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
+import io.helidon.common.GenericType;
+import io.helidon.service.registry.ServiceRegistry;
 import io.helidon.service.registry.ServiceRegistryManager;
 import io.helidon.service.registry.Service;
 
@@ -61,6 +74,183 @@ public class GenericsExample {
         }
     }
 
+    /**
+     * A cache of generic assignability checks, keyed by requested type and provider type.
+     * Type arguments are matched covariantly, i.e. {@code Circle<Blue>} is assignable to {@code Circle<Color>}.
+     */
+    static final class Assignability {
+
+        private final Map<Key, Boolean> cache = new ConcurrentHashMap<>();
+
+        /**
+         * Test if a provider type is assignable to a requested type, the result is cached.
+         *
+         * @param requested requested type
+         * @param provider  provider type
+         * @return {@code true} if assignable
+         */
+        boolean isAssignable(GenericType<?> requested, Class<?> provider) {
+            // reflective types implement equals and hashCode, they are used as is in the key
+            var key = new Key(requested.type(), provider);
+            var assignable = cache.get(key);
+            if (assignable == null) {
+                assignable = cache.computeIfAbsent(key, k -> isAssignable(k.requested(), k.provider()));
+            }
+            return assignable;
+        }
+
+        /**
+         * Test if a candidate type is assignable to a requested type.
+         *
+         * @param requested requested type
+         * @param candidate candidate type
+         * @return {@code true} if assignable
+         */
+        static boolean isAssignable(Type requested, Type candidate) {
+            if (requested instanceof Class<?> requestedClass) {
+                return requestedClass.isAssignableFrom(rawType(candidate));
+            }
+            if (requested instanceof WildcardType wildcard) {
+                return Arrays.stream(wildcard.getUpperBounds()).allMatch(bound -> isAssignable(bound, candidate));
+            }
+            if (requested instanceof ParameterizedType parameterized
+                && supertype(candidate, rawType(parameterized)) instanceof ParameterizedType resolved) {
+                var requestedArgs = parameterized.getActualTypeArguments();
+                var resolvedArgs = resolved.getActualTypeArguments();
+                for (int i = 0; i < requestedArgs.length; i++) {
+                    if (!isAssignable(requestedArgs[i], resolvedArgs[i])) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Get the given supertype of a type, with its type arguments resolved.
+         *
+         * @param type   type
+         * @param target raw supertype
+         * @return supertype, or {@code null} if the type is not a subtype of the target
+         */
+        private static Type supertype(Type type, Class<?> target) {
+            var raw = rawType(type);
+            if (raw == target) {
+                return type;
+            }
+            var bindings = new HashMap<TypeVariable<?>, Type>();
+            if (type instanceof ParameterizedType parameterized) {
+                var variables = raw.getTypeParameters();
+                var args = parameterized.getActualTypeArguments();
+                for (int i = 0; i < variables.length; i++) {
+                    bindings.put(variables[i], args[i]);
+                }
+            }
+            var supertypes = new ArrayList<Type>(Arrays.asList(raw.getGenericInterfaces()));
+            if (raw.getGenericSuperclass() != null) {
+                supertypes.add(raw.getGenericSuperclass());
+            }
+            for (var supertype : supertypes) {
+                var resolved = supertype(substitute(supertype, bindings), target);
+                if (resolved != null) {
+                    return resolved;
+                }
+            }
+            return null;
+        }
+
+        private static Type substitute(Type type, Map<TypeVariable<?>, Type> bindings) {
+            if (type instanceof TypeVariable<?> variable) {
+                return bindings.getOrDefault(variable, variable);
+            }
+            if (type instanceof ParameterizedType parameterized) {
+                var args = Arrays.stream(parameterized.getActualTypeArguments())
+                        .map(arg -> substitute(arg, bindings))
+                        .toArray(Type[]::new);
+                return new ResolvedType(rawType(parameterized), args);
+            }
+            return type;
+        }
+
+        private static Class<?> rawType(Type type) {
+            return switch (type) {
+                case Class<?> clazz -> clazz;
+                case ParameterizedType parameterized -> (Class<?>) parameterized.getRawType();
+                case GenericArrayType array -> rawType(array.getGenericComponentType()).arrayType();
+                case TypeVariable<?> variable -> rawType(variable.getBounds()[0]);
+                case WildcardType wildcard -> rawType(wildcard.getUpperBounds()[0]);
+                default -> Object.class;
+            };
+        }
+
+        private record Key(Type requested, Class<?> provider) {
+        }
+
+        private record ResolvedType(Class<?> raw, Type[] args) implements ParameterizedType {
+
+            @Override
+            public Type[] getActualTypeArguments() {
+                return args.clone();
+            }
+
+            @Override
+            public Type getRawType() {
+                return raw;
+            }
+
+            @Override
+            public Type getOwnerType() {
+                return raw.getDeclaringClass();
+            }
+        }
+    }
+
+    /**
+     * A service that resolves services by parameterized contract, using {@link Assignability}.
+     */
+    @Service.Singleton
+    static class GenericResolver {
+
+        private final Assignability assignability = new Assignability();
+        private final ServiceRegistry registry;
+
+        GenericResolver(ServiceRegistry registry) {
+            this.registry = registry;
+        }
+
+        /**
+         * Get all the services assignable to a parameterized contract.
+         *
+         * @param type contract
+         * @param <T>  contract type
+         * @return instances
+         */
+        @SuppressWarnings("unchecked")
+        <T> List<T> all(GenericType<T> type) {
+            return registry.all(type.rawType())
+                    .stream()
+                    .filter(instance -> assignability.isAssignable(type, instance.getClass()))
+                    .map(instance -> (T) instance)
+                    .toList();
+        }
+
+        /**
+         * Get a supplier of the first service assignable to a parameterized contract.
+         * The service is resolved lazily on each call to {@link Supplier#get()}, re-using the cached assignability
+         * checks.
+         *
+         * @param type contract
+         * @param <T>  contract type
+         * @return supplier
+         */
+        <T> Supplier<T> supply(GenericType<T> type) {
+            return () -> all(type).stream()
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No service found for " + type));
+        }
+    }
+
     public static void main(String[] args) {
         var registry = ServiceRegistryManager.create().registry();
         var myService = registry.get(MyService.class);
@@ -68,5 +258,9 @@ public class GenericsExample {
         System.out.println(myService.blueCircle().name());
         System.out.println(myService.greenCircle().name());
         myService.circleNames().forEach(System.out::println);
+
+        var resolver = registry.get(GenericResolver.class);
+        var blueCircle = resolver.supply(new GenericType<Circle<Blue>>() { });
+        System.out.println(blueCircle.get().name());
     }
 }
@@ -5,8 +5,15 @@ import java.lang.annotation.Target;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+import io.helidon.common.types.TypeName;
+import io.helidon.common.types.TypedElementInfo;
 import io.helidon.service.registry.ServiceRegistryManager;
 import io.helidon.service.registry.Service;
 import io.helidon.service.registry.Interception;
@@ -25,6 +32,14 @@ class InterceptorExample {
     @interface Traced {
     }
 
+    /**
+     * An annotation to mark methods whose latency is recorded by {@link TimedHistograms}.
+     */
+    @Interception.Intercepted
+    @Target({ElementType.METHOD, ElementType.CONSTRUCTOR})
+    @interface Timed {
+    }
+
     /**
      * A contract with an intercepted method.
      */
@@ -68,22 +83,301 @@ class InterceptorExample {
         String sayHello(String name);
     }
 
+    /**
+     * A record of an intercepted invocation.
+     * The arguments are referenced, not copied: they are formatted when the record is formatted.
+     *
+     * @param serviceType service type
+     * @param element     intercepted element
+     * @param args        arguments
+     * @param nanoTime    value of {@link System#nanoTime()} when the invocation started
+     */
+    record TraceRecord(TypeName serviceType, TypedElementInfo element, Object[] args, long nanoTime) {
+
+        @Override
+        public String toString() {
+            return "%s.%s: %s".formatted(serviceType.declaredName(), element.elementName(), Arrays.asList(args));
+        }
+    }
+
+    /**
+     * A bounded, lock-free buffer of raw trace records, with multiple producers and a single consumer.
+     * The slots are preallocated arrays sequenced by a {@link RingSequencer}: recording an invocation stores references
+     * and does not allocate. When the buffer is full the new records are dropped, until they are drained.
+     */
+    static final class TraceBuffer {
+
+        private final RingSequencer sequencer;
+        private final TypeName[] serviceTypes;
+        private final TypedElementInfo[] elements;
+        private final Object[][] args;
+        private final long[] nanoTimes;
+        private final LongAdder dropped = new LongAdder();
+
+        /**
+         * Create a new buffer.
+         *
+         * @param capacity capacity, rounded up to a power of two
+         */
+        TraceBuffer(int capacity) {
+            this.sequencer = new RingSequencer(capacity);
+            int size = sequencer.capacity();
+            this.serviceTypes = new TypeName[size];
+            this.elements = new TypedElementInfo[size];
+            this.args = new Object[size][];
+            this.nanoTimes = new long[size];
+        }
+
+        /**
+         * Record an invocation.
+         *
+         * @param serviceType service type
+         * @param element     intercepted element
+         * @param args        arguments
+         * @return {@code true} if recorded, {@code false} if dropped because the buffer is full
+         */
+        boolean record(TypeName serviceType, TypedElementInfo element, Object[] args) {
+            long nanoTime = System.nanoTime();
+            long position = sequencer.claim();
+            if (position < 0) {
+                dropped.increment();
+                return false;
+            }
+            int index = sequencer.index(position);
+            serviceTypes[index] = serviceType;
+            elements[index] = element;
+            this.args[index] = args;
+            nanoTimes[index] = nanoTime;
+            sequencer.publish(position);
+            return true;
+        }
+
+        /**
+         * Remove all the published records, in order for each producer.
+         *
+         * @param consumer record consumer
+         * @return number of drained records
+         */
+        synchronized int drain(Consumer<TraceRecord> consumer) {
+            int count = 0;
+            long position;
+            while ((position = sequencer.acquire()) >= 0) {
+                int index = sequencer.index(position);
+                var record = new TraceRecord(serviceTypes[index], elements[index], args[index], nanoTimes[index]);
+                serviceTypes[index] = null;
+                elements[index] = null;
+                args[index] = null;
+                sequencer.release(position);
+                consumer.accept(record);
+                count++;
+            }
+            return count;
+        }
+
+        /**
+         * Get the number of records dropped because the buffer was full.
+         *
+         * @return dropped records
+         */
+        long dropped() {
+            return dropped.sum();
+        }
+    }
+
     /**
      * An interceptor implementation that supports {@link Traced}.
+     * The invocations are recorded in a {@link TraceBuffer}, and formatted when drained.
      */
     @Service.Singleton
     @Service.NamedByType(Traced.class)
     static class MyServiceInterceptor implements Interception.Interceptor {
-        static final List<String> INVOKED = new ArrayList<>();
+
+        /**
+         * Capacity of the trace buffer.
+         */
+        static final int CAPACITY = 16 * 1024;
+
+        final TraceBuffer traces = new TraceBuffer(CAPACITY);
 
         @Override
         public <V> V proceed(InterceptionContext ctx, Chain<V> chain, Object... args) throws Exception {
-            INVOKED.add("%s.%s: %s".formatted(
-                    ctx.serviceInfo().serviceType().declaredName(),
-                    ctx.elementInfo().elementName(),
-                    Arrays.asList(args)));
+            traces.record(ctx.serviceInfo().serviceType(), ctx.elementInfo(), args);
             return chain.proceed(args);
         }
+
+        /**
+         * Drain and format the recorded invocations.
+         *
+         * @return formatted invocations
+         */
+        List<String> drain() {
+            var invoked = new ArrayList<String>();
+            traces.drain(record -> invoked.add(record.toString()));
+            return invoked;
+        }
+    }
+
+    /**
+     * A latency histogram striped by thread, to reduce the contention of concurrent recordings.
+     */
+    static final class StripedHistogram {
+
+        private final LatencyHistogram[] stripes;
+        private final int mask;
+
+        /**
+         * Create a new histogram.
+         *
+         * @param stripes number of stripes, rounded up to a power of two
+         */
+        StripedHistogram(int stripes) {
+            int size = Integer.highestOneBit(Math.max(1, stripes) * 2 - 1);
+            this.stripes = new LatencyHistogram[size];
+            for (int i = 0; i < size; i++) {
+                this.stripes[i] = new LatencyHistogram();
+            }
+            this.mask = size - 1;
+        }
+
+        /**
+         * Record a value, does not allocate.
+         *
+         * @param nanos value in nanoseconds
+         */
+        void record(long nanos) {
+            long id = Thread.currentThread().threadId();
+            stripes[(int) ((id ^ (id >>> 16)) & mask)].record(nanos);
+        }
+
+        /**
+         * Create a snapshot of all the stripes.
+         *
+         * @return snapshot
+         */
+        LatencyHistogram.Snapshot snapshot() {
+            var snapshot = stripes[0].snapshot();
+            for (int i = 1; i < stripes.length; i++) {
+                snapshot = snapshot.merge(stripes[i].snapshot());
+            }
+            return snapshot;
+        }
+
+        /**
+         * Create a snapshot of all the stripes, and reset them.
+         *
+         * @return snapshot
+         */
+        LatencyHistogram.Snapshot snapshotAndReset() {
+            var snapshot = stripes[0].snapshotAndReset();
+            for (int i = 1; i < stripes.length; i++) {
+                snapshot = snapshot.merge(stripes[i].snapshotAndReset());
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * A service that holds the latency histograms of the {@link Timed} elements.
+     * The histograms are keyed by signature, e.g. {@code com.acme.MyService.sayHello(java.lang.String)}.
+     */
+    @Service.Singleton
+    static class TimedHistograms {
+
+        private static final int STRIPES = Runtime.getRuntime().availableProcessors();
+
+        private final ElementRegistry<StripedHistogram> histograms = new ElementRegistry<>(
+                (serviceType, element) -> new StripedHistogram(STRIPES));
+        private volatile boolean enabled = true;
+
+        /**
+         * Get the histogram of an element, created on first use.
+         *
+         * @param serviceType service type
+         * @param element     element
+         * @return histogram
+         */
+        StripedHistogram histogram(TypeName serviceType, TypedElementInfo element) {
+            return histograms.get(serviceType, element);
+        }
+
+        /**
+         * Test if the latencies are recorded.
+         *
+         * @return {@code true} if enabled
+         */
+        boolean enabled() {
+            return enabled;
+        }
+
+        /**
+         * Enable or disable the recording of latencies.
+         *
+         * @param enabled {@code true} to enable
+         */
+        void enabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Create a snapshot of all the histograms.
+         *
+         * @return snapshots by signature
+         */
+        Map<String, LatencyHistogram.Snapshot> snapshot() {
+            var snapshots = new TreeMap<String, LatencyHistogram.Snapshot>();
+            histograms.forEach((element, histogram) -> snapshots.put(signature(element), histogram.snapshot()));
+            return snapshots;
+        }
+
+        /**
+         * Create a snapshot of all the histograms and reset them, i.e. the latencies of the interval since the
+         * previous reset.
+         *
+         * @return snapshots by signature
+         */
+        Map<String, LatencyHistogram.Snapshot> snapshotAndReset() {
+            var snapshots = new TreeMap<String, LatencyHistogram.Snapshot>();
+            histograms.forEach((element, histogram) ->
+                    snapshots.put(signature(element), histogram.snapshotAndReset()));
+            return snapshots;
+        }
+
+        private static String signature(ElementRegistry.Element element) {
+            return "%s.%s(%s)".formatted(
+                    element.serviceType().fqName(),
+                    element.element().elementName(),
+                    element.element().parameterArguments().stream()
+                            .map(parameter -> parameter.typeName().resolvedName())
+                            .collect(Collectors.joining(",")));
+        }
+    }
+
+    /**
+     * An interceptor implementation that supports {@link Timed}.
+     */
+    @Service.Singleton
+    @Service.NamedByType(Timed.class)
+    static class TimedInterceptor implements Interception.Interceptor {
+
+        private final TimedHistograms histograms;
+
+        TimedInterceptor(TimedHistograms histograms) {
+            this.histograms = histograms;
+        }
+
+        @Override
+        public <V> V proceed(InterceptionContext ctx, Chain<V> chain, Object... args) throws Exception {
+            if (!histograms.enabled()) {
+                return chain.proceed(args);
+            }
+            var histogram = histograms.histogram(ctx.serviceInfo().serviceType(), ctx.elementInfo());
+            long start = System.nanoTime();
+            try {
+                return chain.proceed(args);
+            } finally {
+                histogram.record(System.nanoTime() - start);
+            }
+        }
     }
 
     /**
@@ -102,6 +396,18 @@ class InterceptorExample {
         }
     }
 
+    /**
+     * A singleton service with a method whose latency is recorded by {@link TimedInterceptor}.
+     */
+    @Service.Singleton
+    static class MyTimedService {
+
+        @Timed
+        String sayHello(String name) {
+            return "Hello %s!".formatted(name);
+        }
+    }
+
     /**
      * A service that implements a contract with intercepted methods.
      */
@@ -162,6 +468,7 @@ class InterceptorExample {
         var myAbstractClassContract = registry.get(MyAbstractClassContract.class);
         var myIFaceProvidedContract = registry.get(MyOtherContract.class);
         var myAbstractClassProvidedContract = registry.get(MyOtherAbstractClassContract.class);
+        var myTimedService = registry.get(MyTimedService.class);
 
         System.out.println(myService.sayHello("Joe"));
         System.out.println(myService.sayHello("Jack"));
@@ -173,6 +480,9 @@ class InterceptorExample {
         System.out.println(myIFaceProvidedContract.sayHello("Josephine"));
         System.out.println(myAbstractClassProvidedContract.sayHello("Joceline"));
         System.out.println(myAbstractClassProvidedContract.sayHello("Jacqueline"));
-        MyServiceInterceptor.INVOKED.forEach(System.out::println);
+        System.out.println(myTimedService.sayHello("Jane"));
+        registry.get(MyServiceInterceptor.class).drain().forEach(System.out::println);
+        registry.get(TimedHistograms.class).snapshot().forEach((signature, latency) ->
+                System.out.printf("%s: %s%n", signature, latency));
     }
 }
@@ -0,0 +1,138 @@
+package io.helidon.examples.inject;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free, log-linear histogram of latencies in nanoseconds.
+ * Values lower than {@value #SUB_BUCKETS} are counted exactly, larger values are counted in buckets of
+ * {@value #SUB_BUCKETS} / 2 sub-buckets per power of two, i.e. with a relative error lower than {@code 1 / 16}.
+ * Recording a value does not allocate.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF = SUB_BUCKETS / 2;
+    private static final int SIZE = SUB_BUCKETS + (Long.SIZE - SUB_BUCKET_BITS) * HALF;
+
+    private final AtomicLongArray counts = new AtomicLongArray(SIZE);
+
+    /**
+     * Record a value.
+     *
+     * @param nanos value in nanoseconds, negative values are recorded as {@code 0}
+     */
+    void record(long nanos) {
+        counts.incrementAndGet(index(Math.max(0, nanos)));
+    }
+
+    /**
+     * Create a snapshot.
+     *
+     * @return snapshot
+     */
+    Snapshot snapshot() {
+        var snapshot = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            snapshot[i] = counts.get(i);
+        }
+        return new Snapshot(snapshot);
+    }
+
+    /**
+     * Create a snapshot and reset the histogram.
+     * A value recorded concurrently is counted either in the snapshot or in the next one.
+     *
+     * @return snapshot
+     */
+    Snapshot snapshotAndReset() {
+        var snapshot = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            snapshot[i] = counts.getAndSet(i, 0);
+        }
+        return new Snapshot(snapshot);
+    }
+
+    private static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int mantissa = (int) (value >>> exponent);
+        return SUB_BUCKETS + (exponent - 1) * HALF + (mantissa - HALF);
+    }
+
+    private static long highestValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = (index - SUB_BUCKETS) / HALF + 1;
+        long mantissa = (index - SUB_BUCKETS) % HALF + HALF;
+        return ((mantissa + 1) << exponent) - 1;
+    }
+
+    /**
+     * A snapshot of a histogram.
+     */
+    static final class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+
+        private Snapshot(long[] counts) {
+            this.counts = counts;
+            long count = 0;
+            for (long c : counts) {
+                count += c;
+            }
+            this.count = count;
+        }
+
+        /**
+         * Get the number of recorded values.
+         *
+         * @return count
+         */
+        long count() {
+            return count;
+        }
+
+        /**
+         * Get a percentile.
+         *
+         * @param percentile percentile, between {@code 0} and {@code 100}
+         * @return highest value equivalent to the percentile, in nanoseconds; {@code 0} if the snapshot is empty
+         */
+        long percentile(double percentile) {
+            long rank = (long) Math.ceil(count * Math.min(100, Math.max(0, percentile)) / 100);
+            long cumulated = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulated += counts[i];
+                if (cumulated > 0 && cumulated >= rank) {
+                    return highestValue(i);
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * Merge this snapshot with another one.
+         *
+         * @param other other snapshot
+         * @return merged snapshot
+         */
+        Snapshot merge(Snapshot other) {
+            var merged = new long[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                merged[i] = counts[i] + other.counts[i];
+            }
+            return new Snapshot(merged);
+        }
+
+        @Override
+        public String toString() {
+            return "count=%d, p50=%dns, p99=%dns, max=%dns".formatted(
+                    count, percentile(50), percentile(99), percentile(100));
+        }
+    }
+}
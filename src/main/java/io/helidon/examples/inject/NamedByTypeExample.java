@@ -66,5 +66,8 @@ class NamedByTypeExample {
 
         System.out.printf("blue square color hex-code: %s%n", blueCircle.color().hexCode());
         System.out.printf("green square color hex-code: %s%n", greenCircle.color().hexCode());
+
+        var index = registry.get(NamedExample.NameIndex.class);
+        System.out.printf("indexed blue color hex-code: %s%n", index.get(Color.class, Blue.class).hexCode());
     }
 }
@@ -1,5 +1,14 @@
 package io.helidon.examples.inject;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.helidon.service.registry.Lookup;
+import io.helidon.service.registry.ServiceInfo;
+import io.helidon.service.registry.ServiceRegistry;
 import io.helidon.service.registry.ServiceRegistryManager;
 import io.helidon.service.registry.Service;
 
@@ -59,6 +68,101 @@ class NamedExample {
     record GreenCircle(@Service.Named("green") Color color) {
     }
 
+    /**
+     * An index of the services by contract and name.
+     * The services of a contract are looked up and indexed by name once, named lookups then do not scale with the
+     * number of implementations of the contract.
+     * A service named {@value Service.Named#WILDCARD_NAME} matches any name, as with the lookups of the registry.
+     */
+    @Service.Singleton
+    static class NameIndex {
+
+        private final Map<Class<?>, Names> index = new ConcurrentHashMap<>();
+        private final ServiceRegistry registry;
+
+        NameIndex(ServiceRegistry registry) {
+            this.registry = registry;
+        }
+
+        /**
+         * Get a named service.
+         *
+         * @param contract contract
+         * @param name     name
+         * @param <T>      contract type
+         * @return instance
+         * @throws IllegalStateException if there is no such service
+         */
+        <T> T get(Class<T> contract, String name) {
+            var serviceInfo = service(contract, name).orElseThrow(() -> new IllegalStateException(
+                    "No service found for %s named %s".formatted(contract, name)));
+            return contract.cast(registry.get(serviceInfo).orElseThrow());
+        }
+
+        /**
+         * Get a service named by type, see {@link Service.NamedByType}.
+         *
+         * @param contract contract
+         * @param type     type used as name
+         * @param <T>      contract type
+         * @return instance
+         * @throws IllegalStateException if there is no such service
+         */
+        <T> T get(Class<T> contract, Class<?> type) {
+            return get(contract, type.getCanonicalName());
+        }
+
+        /**
+         * Get the service with the highest weight that is named {@code name}, or named
+         * {@value Service.Named#WILDCARD_NAME}.
+         *
+         * @param contract contract
+         * @param name     name
+         * @return service info, empty if there is no such service
+         */
+        Optional<ServiceInfo> service(Class<?> contract, String name) {
+            return index.computeIfAbsent(contract, this::names).service(name);
+        }
+
+        private Names names(Class<?> contract) {
+            var services = registry.lookupServices(Lookup.create(contract));
+            var names = new HashMap<String, Integer>();
+            int wildcard = -1;
+            // services are ordered by weight, keep the position of the first service for each name
+            for (int i = 0; i < services.size(); i++) {
+                for (var qualifier : services.get(i).qualifiers()) {
+                    if (qualifier.typeName().equals(Service.Named.TYPE) && qualifier.value().isPresent()) {
+                        var name = qualifier.value().get();
+                        if (name.equals(Service.Named.WILDCARD_NAME)) {
+                            wildcard = wildcard < 0 ? i : wildcard;
+                        } else {
+                            names.putIfAbsent(name, i);
+                        }
+                    }
+                }
+            }
+            return new Names(List.copyOf(services), Map.copyOf(names), wildcard);
+        }
+
+        /**
+         * The named services of a contract.
+         *
+         * @param services services ordered by weight
+         * @param names    position of the first service with a name
+         * @param wildcard position of the first service named {@value Service.Named#WILDCARD_NAME}, {@code -1} if none
+         */
+        private record Names(List<ServiceInfo> services, Map<String, Integer> names, int wildcard) {
+
+            Optional<ServiceInfo> service(String name) {
+                int position = names.getOrDefault(name, Integer.MAX_VALUE);
+                if (wildcard >= 0 && wildcard < position) {
+                    position = wildcard;
+                }
+                return position < services.size() ? Optional.of(services.get(position)) : Optional.empty();
+            }
+        }
+    }
+
     public static void main(String[] args) {
         var registry = ServiceRegistryManager.create().registry();
         var blueCircle = registry.get(BlueCircle.class);
@@ -66,5 +170,8 @@ class NamedExample {
 
         System.out.printf("blue circle color hex-code: %s%n", blueCircle.color().hexCode());
         System.out.printf("green circle color hex-code: %s%n", greenCircle.color().hexCode());
+
+        var index = registry.get(NameIndex.class);
+        System.out.printf("indexed blue color hex-code: %s%n", index.get(Color.class, "blue").hexCode());
     }
 }
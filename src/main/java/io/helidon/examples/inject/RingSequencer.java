@@ -0,0 +1,131 @@
+package io.helidon.examples.inject;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The sequences of a bounded, lock-free ring buffer with multiple producers and multiple consumers.
+ * The slots themselves are stored by the user of the sequencer, e.g. in arrays indexed by {@link #index(long)}: a
+ * producer claims a position, writes the slot and publishes it; a consumer acquires a published position, reads the
+ * slot and releases it. Publishing and releasing a position orders the writes of the slot, the slots can thus be plain
+ * arrays. Claiming and acquiring positions does not allocate.
+ * <p>
+ * Each slot has a sequence number, that tells whether it is free for the producers or published for the consumers
+ * of a given position (D. Vyukov's bounded queue).
+ */
+final class RingSequencer {
+
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Create a new sequencer.
+     *
+     * @param capacity capacity, rounded up to a power of two
+     */
+    RingSequencer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Get the capacity.
+     *
+     * @return capacity, a power of two
+     */
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Get the index of the slot of a position.
+     *
+     * @param position position
+     * @return index
+     */
+    int index(long position) {
+        return (int) (position & mask);
+    }
+
+    /**
+     * Claim the next free position, its slot must then be written and {@link #publish(long) published}.
+     *
+     * @return position, or {@code -1} if the ring is full
+     */
+    long claim() {
+        long pos = tail.get();
+        while (true) {
+            long diff = sequences.get(index(pos)) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    return pos;
+                }
+            } else if (diff < 0) {
+                return -1;
+            }
+            pos = tail.get();
+        }
+    }
+
+    /**
+     * Publish a claimed position, once its slot is written.
+     *
+     * @param position position
+     */
+    void publish(long position) {
+        sequences.set(index(position), position + 1);
+    }
+
+    /**
+     * Acquire the next published position, its slot must then be read and {@link #release(long) released}.
+     *
+     * @return position, or {@code -1} if there is no published position
+     */
+    long acquire() {
+        long pos = head.get();
+        while (true) {
+            long diff = sequences.get(index(pos)) - (pos + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    return pos;
+                }
+            } else if (diff < 0) {
+                return -1;
+            }
+            pos = head.get();
+        }
+    }
+
+    /**
+     * Release an acquired position, once its slot is read; the slot is then free for the producers of the next lap.
+     *
+     * @param position position
+     */
+    void release(long position) {
+        sequences.set(index(position), position + mask + 1);
+    }
+
+    /**
+     * Get the number of claimed positions that are not yet acquired.
+     *
+     * @return size
+     */
+    int size() {
+        return (int) Math.min(capacity(), Math.max(0, tail.get() - head.get()));
+    }
+
+    /**
+     * Test if all the claimed positions are acquired.
+     *
+     * @return {@code true} if empty
+     */
+    boolean isEmpty() {
+        return tail.get() == head.get();
+    }
+}
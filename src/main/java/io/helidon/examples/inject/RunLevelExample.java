@@ -1,8 +1,18 @@
 package io.helidon.examples.inject;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import io.helidon.service.registry.Lookup;
 import io.helidon.service.registry.Service;
@@ -15,7 +25,12 @@ import io.helidon.service.registry.ServiceRegistryManager;
  */
 class RunLevelExample {
 
-    static final List<String> STARTUP_EVENTS = new ArrayList<>();
+    static final List<String> STARTUP_EVENTS = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Default deadline for the asynchronous startup of a run level.
+     */
+    static final Duration STARTUP_DEADLINE = Duration.ofSeconds(10);
 
     /**
      * A service that starts at level {@code 1}.
@@ -43,21 +58,170 @@ class RunLevelExample {
         }
     }
 
+    /**
+     * A contract for services that complete their startup asynchronously.
+     * A run level is started once all its services are activated, and their startup is completed.
+     */
+    @Service.Contract
+    interface AsyncStartup {
+
+        /**
+         * Get the completion of the startup, initiated by the post construct method.
+         *
+         * @return completion stage
+         */
+        CompletionStage<?> started();
+    }
+
+    /**
+     * A service that starts asynchronously at level {@code 1}.
+     */
+    @Service.RunLevel(1)
+    @Service.Singleton
+    static class AsyncLevel1 implements AsyncStartup {
+
+        private CompletionStage<?> started;
+
+        @Service.PostConstruct
+        void onCreate() {
+            started = CompletableFuture.runAsync(() -> STARTUP_EVENTS.add("async-level1"),
+                    CompletableFuture.delayedExecutor(10, TimeUnit.MILLISECONDS));
+        }
+
+        @Override
+        public CompletionStage<?> started() {
+            return started;
+        }
+    }
+
+    /**
+     * An index of the services with run levels.
+     * It is computed once, the run levels and the services of a given run level can then be obtained without
+     * looking up the registry.
+     *
+     * @param runLevels run levels, sorted
+     * @param services  services by run level
+     */
+    record RunLevelIndex(List<Double> runLevels, Map<Double, List<ServiceInfo>> services) {
+
+        /**
+         * Create a new index from the services in the registry.
+         *
+         * @param registry registry
+         * @return index
+         */
+        static RunLevelIndex create(ServiceRegistry registry) {
+            var services = new HashMap<Double, List<ServiceInfo>>();
+            for (var serviceInfo : registry.lookupServices(Lookup.EMPTY)) {
+                serviceInfo.runLevel().ifPresent(runLevel -> services
+                        .computeIfAbsent(runLevel, k -> new ArrayList<>())
+                        .add(serviceInfo));
+            }
+            services.replaceAll((runLevel, infos) -> List.copyOf(infos));
+            return new RunLevelIndex(services.keySet().stream().sorted().toList(), Map.copyOf(services));
+        }
+
+        /**
+         * Get the services of a run level.
+         *
+         * @param runLevel run level
+         * @return services, empty if there is no service at the given run level
+         */
+        List<ServiceInfo> services(double runLevel) {
+            return services.getOrDefault(runLevel, List.of());
+        }
+    }
+
     /**
      * Start all the services with run levels.
      *
      * @param registry registry
      */
     static void startRunLevels(ServiceRegistry registry) {
-        for (var runLevel : runLevels(registry)) {
+        startRunLevels(registry, RunLevelIndex.create(registry));
+    }
+
+    /**
+     * Start all the services with run levels using an index.
+     *
+     * @param registry registry
+     * @param index    run level index
+     */
+    static void startRunLevels(ServiceRegistry registry, RunLevelIndex index) {
+        startRunLevels(registry, index, Runnable::run, STARTUP_DEADLINE);
+    }
+
+    /**
+     * Start all the services with run levels using an index, the services of a run level are activated concurrently.
+     *
+     * @param registry registry
+     * @param index    run level index
+     * @param executor executor used to activate the services
+     */
+    static void startRunLevels(ServiceRegistry registry, RunLevelIndex index, Executor executor) {
+        startRunLevels(registry, index, executor, STARTUP_DEADLINE);
+    }
+
+    /**
+     * Start all the services with run levels using an index.
+     * All the services of a run level are activated, and their {@link AsyncStartup asynchronous startup} completed
+     * before starting the next run level.
+     *
+     * @param registry registry
+     * @param index    run level index
+     * @param executor executor used to activate the services, use {@code Runnable::run} to activate them sequentially
+     * @param deadline maximum time to start a run level
+     * @throws IllegalStateException if services of a run level fail to start, the failures are reported in the
+     *                               order of the index; or if a run level does not start within the deadline
+     */
+    static void startRunLevels(ServiceRegistry registry, RunLevelIndex index, Executor executor, Duration deadline) {
+        for (var runLevel : index.runLevels()) {
             if (runLevel <= 2) {
-                registry.all(Lookup.builder()
-                        .runLevel(runLevel)
-                        .build());
+                var services = index.services(runLevel);
+                var futures = new ArrayList<CompletableFuture<?>>(services.size());
+                for (var serviceInfo : services) {
+                    futures.add(CompletableFuture.supplyAsync(() -> registry.get(serviceInfo), executor)
+                            .thenCompose(instance -> instance.filter(AsyncStartup.class::isInstance)
+                                    .map(AsyncStartup.class::cast)
+                                    .<CompletionStage<?>>map(AsyncStartup::started)
+                                    .orElseGet(() -> CompletableFuture.completedFuture(null))));
+                }
+                await(runLevel, services, futures, deadline);
             }
         }
     }
 
+    private static void await(double runLevel,
+                              List<ServiceInfo> services,
+                              List<CompletableFuture<?>> futures,
+                              Duration deadline) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(deadline.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ignored) {
+            // failures are reported below, in order
+        } catch (TimeoutException ex) {
+            throw new IllegalStateException("Run level %s did not start within %s".formatted(runLevel, deadline), ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while starting run level " + runLevel, ex);
+        }
+        IllegalStateException error = null;
+        for (int i = 0; i < futures.size(); i++) {
+            var future = futures.get(i);
+            if (future.isCompletedExceptionally()) {
+                if (error == null) {
+                    error = new IllegalStateException("Failed to start run level " + runLevel);
+                }
+                error.addSuppressed(new IllegalStateException(
+                        "Failed to start " + services.get(i).serviceType(), future.exceptionNow()));
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
     /**
      * Extract all the run levels from the registry.
      *
@@ -65,18 +229,15 @@ class RunLevelExample {
      * @return run levels
      */
     static List<Double> runLevels(ServiceRegistry registry) {
-        return registry.lookupServices(Lookup.EMPTY)
-                .stream()
-                .map(ServiceInfo::runLevel)
-                .flatMap(Optional::stream)
-                .distinct()
-                .sorted()
-                .toList();
+        return RunLevelIndex.create(registry).runLevels();
     }
 
     public static void main(String[] args) {
         var registry = ServiceRegistryManager.create().registry();
-        startRunLevels(registry);
+        var index = RunLevelIndex.create(registry);
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            startRunLevels(registry, index, executor);
+        }
         STARTUP_EVENTS.forEach(System.out::println);
     }
 }
@@ -1,6 +1,12 @@
 package io.helidon.examples.inject;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
 import io.helidon.common.Weight;
+import io.helidon.service.registry.Lookup;
+import io.helidon.service.registry.ServiceRegistry;
 import io.helidon.service.registry.ServiceRegistryManager;
 import io.helidon.service.registry.Service;
 
@@ -41,10 +47,66 @@ class WeightedExample {
         }
     }
 
+    /**
+     * A cache of the service with the highest weight for a lookup (i.e. contract and qualifiers).
+     * The bindings of a registry do not change once it is created, thus the winner is resolved on the first lookup,
+     * and the cache lives as long as the registry.
+     * Singleton instances are cached, other instances are obtained from the registry for the cached winner.
+     */
+    @Service.Singleton
+    static class WinnerCache {
+
+        private final Map<Lookup, Supplier<?>> winners = new ConcurrentHashMap<>();
+        private final ServiceRegistry registry;
+
+        WinnerCache(ServiceRegistry registry) {
+            this.registry = registry;
+        }
+
+        /**
+         * Get the service with the highest weight for a contract.
+         *
+         * @param contract contract
+         * @param <T>      contract type
+         * @return instance
+         */
+        <T> T get(Class<T> contract) {
+            return contract.cast(get(Lookup.create(contract)));
+        }
+
+        /**
+         * Get the service with the highest weight for a lookup.
+         *
+         * @param lookup lookup
+         * @return instance
+         * @throws IllegalStateException if there is no service for the lookup
+         */
+        Object get(Lookup lookup) {
+            return winners.computeIfAbsent(lookup, this::resolve).get();
+        }
+
+        private Supplier<?> resolve(Lookup lookup) {
+            var services = registry.lookupServices(lookup);
+            if (services.isEmpty()) {
+                throw new IllegalStateException("No service found for " + lookup);
+            }
+            // services are ordered by weight
+            var winner = services.getFirst();
+            if (Service.Singleton.TYPE.equals(winner.scope())) {
+                var instance = registry.get(winner).orElseThrow();
+                return () -> instance;
+            }
+            return () -> registry.get(winner).orElseThrow();
+        }
+    }
+
     public static void main(String[] args) {
         var registry = ServiceRegistryManager.create().registry();
         var color = registry.get(Color.class);
 
         System.out.printf("color name: %s%n", color.name());
+
+        var cache = registry.get(WinnerCache.class);
+        System.out.printf("cached color name: %s%n", cache.get(Color.class).name());
     }
 }
@@ -0,0 +1,107 @@
+package io.helidon.examples.inject;
+
+import java.util.function.Supplier;
+
+import io.helidon.service.registry.Interception;
+import io.helidon.service.registry.Service;
+
+/**
+ * Services limited by {@link BulkheadExample.Bulkhead}, for each interception shape of {@link InterceptorExample}.
+ */
+final class BulkheadShapes {
+
+    private BulkheadShapes() {
+    }
+
+    /**
+     * A concrete class.
+     */
+    @Service.Singleton
+    static class Concrete {
+
+        @BulkheadExample.Bulkhead
+        String sayHello(String name) {
+            return "Hello %s!".formatted(name);
+        }
+    }
+
+    /**
+     * An interface contract.
+     */
+    interface Contract {
+
+        @BulkheadExample.Bulkhead
+        String sayHello(String name);
+    }
+
+    @Service.Singleton
+    static class ContractImpl implements Contract {
+
+        @Override
+        public String sayHello(String name) {
+            return "Hello %s!".formatted(name);
+        }
+    }
+
+    /**
+     * An abstract class contract.
+     */
+    @Service.Contract
+    abstract static class AbstractContract {
+
+        @BulkheadExample.Bulkhead
+        abstract String sayHello(String name);
+    }
+
+    @Service.Singleton
+    static class AbstractContractImpl extends AbstractContract {
+
+        @Override
+        String sayHello(String name) {
+            return "Hello %s!".formatted(name);
+        }
+    }
+
+    /**
+     * A supplied interface contract.
+     */
+    interface SuppliedContract {
+
+        @BulkheadExample.Bulkhead
+        String sayHello(String name);
+    }
+
+    @Service.Singleton
+    static class SuppliedContractProvider implements Supplier<SuppliedContract> {
+
+        @Override
+        public SuppliedContract get() {
+            return "Hello %s!"::formatted;
+        }
+    }
+
+    /**
+     * A supplied delegate abstract class contract.
+     */
+    @Interception.Delegate
+    abstract static class DelegateContract {
+
+        @BulkheadExample.Bulkhead
+        abstract String sayHello(String name);
+    }
+
+    @Service.Singleton
+    static class DelegateContractProvider implements Supplier<DelegateContract> {
+
+        @Override
+        public DelegateContract get() {
+            return new DelegateContract() {
+
+                @Override
+                String sayHello(String name) {
+                    return "Hello %s!".formatted(name);
+                }
+            };
+        }
+    }
+}
@@ -1,25 +1,68 @@
 package io.helidon.examples.inject;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
 
+import io.helidon.common.GenericType;
+import io.helidon.common.types.ElementKind;
+import io.helidon.common.types.TypeName;
+import io.helidon.common.types.TypeNames;
+import io.helidon.common.types.TypedElementInfo;
+import io.helidon.service.registry.Interception;
+import io.helidon.service.registry.InterceptionContext;
+import io.helidon.service.registry.Lookup;
+import io.helidon.service.registry.Qualifier;
+import io.helidon.service.registry.ServiceInfo;
 import io.helidon.service.registry.ServiceRegistryConfig;
 import io.helidon.service.registry.ServiceRegistryManager;
 import io.helidon.service.registry.Service;
 import io.helidon.service.registry.Scope;
 import io.helidon.service.registry.Scopes;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class InjectExampleTest {
 
+    @BeforeEach
+    void resetStartupEvents() {
+        // the events of the run level services are recorded in a static list
+        RunLevelExample.STARTUP_EVENTS.clear();
+    }
+
     @Test
     void testDescribe() {
         var injectConfig = ServiceRegistryConfig.builder()
@@ -52,7 +95,8 @@ class InjectExampleTest {
         assertThat(myAbstractClassContract.sayHelloDirect("John"), is("Hello John!"));
         assertThat(myAbstractClassProvidedContract.sayHello("Joceline"), is("Hello Joceline!"));
         assertThat(myAbstractClassProvidedContract.sayHello("Jacqueline"), is("Hello Jacqueline!"));
-        assertThat(InterceptorExample.MyServiceInterceptor.INVOKED, is(List.of(
+        var myServiceInterceptor = registry.get(InterceptorExample.MyServiceInterceptor.class);
+        assertThat(myServiceInterceptor.drain(), is(List.of(
                 "%s.<init>: []".formatted(InterceptorExample.MyConcreteService.class.getName()),
                 "%s.sayHello: [Joe]".formatted(InterceptorExample.MyConcreteService.class.getName()),
                 "%s.sayHello: [John]".formatted(InterceptorExample.MyConcreteService.class.getName()),
@@ -67,6 +111,336 @@ class InjectExampleTest {
                 "%s.sayHello: [Jacqueline]".formatted(InterceptorExample.MyAbstractContractProvider.class.getName()))));
     }
 
+    @Test
+    void testInterceptorTraceBuffer() {
+        var registry = ServiceRegistryManager.create().registry();
+        var myConcreteService = registry.get(InterceptorExample.MyConcreteService.class);
+        var myServiceInterceptor = registry.get(InterceptorExample.MyServiceInterceptor.class);
+        var traces = myServiceInterceptor.traces;
+        // the constructor invocation
+        assertThat(traces.drain(record -> {}), is(1));
+
+        var drained = new ArrayList<InterceptorExample.TraceRecord>();
+        var done = new CountDownLatch(1);
+        var drainer = Thread.ofVirtual().start(() -> {
+            boolean last = false;
+            while (!last) {
+                last = done.getCount() == 0;
+                traces.drain(drained::add);
+                Thread.yield();
+            }
+        });
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 100; i++) {
+                int caller = i;
+                executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        myConcreteService.sayHello("name-%d-%d".formatted(caller, j));
+                    }
+                });
+            }
+        }
+        done.countDown();
+        try {
+            drainer.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+
+        assertThat(drained.size() + traces.dropped(), is(100_000L));
+        assertThat(drained.size(), greaterThan(0));
+        var last = new int[100];
+        Arrays.fill(last, -1);
+        for (var record : drained) {
+            assertThat(record.serviceType(), is(TypeName.create(InterceptorExample.MyConcreteService.class)));
+            assertThat(record.element().elementName(), is("sayHello"));
+            var name = ((String) record.args()[0]).split("-");
+            int caller = Integer.parseInt(name[1]);
+            int call = Integer.parseInt(name[2]);
+            // the records of a caller are drained in order
+            assertThat(call, greaterThan(last[caller]));
+            last[caller] = call;
+        }
+    }
+
+    @Test
+    void testTimed() {
+        var registry = ServiceRegistryManager.create().registry();
+        var myTimedService = registry.get(InterceptorExample.MyTimedService.class);
+        var histograms = registry.get(InterceptorExample.TimedHistograms.class);
+        var signature = InterceptorExample.MyTimedService.class.getCanonicalName() + ".sayHello(java.lang.String)";
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 100; i++) {
+                executor.submit(() -> {
+                    for (int j = 0; j < 100; j++) {
+                        myTimedService.sayHello("Joe");
+                    }
+                });
+            }
+        }
+        var latency = histograms.snapshotAndReset().get(signature);
+        assertThat(latency.count(), is(10_000L));
+        assertThat(latency.percentile(50), greaterThan(0L));
+        assertThat(histograms.snapshot().get(signature).count(), is(0L));
+
+        histograms.enabled(false);
+        myTimedService.sayHello("Joe");
+        assertThat(histograms.snapshot().get(signature).count(), is(0L));
+        histograms.enabled(true);
+        myTimedService.sayHello("Joe");
+        assertThat(histograms.snapshot().get(signature).count(), is(1L));
+    }
+
+    @Test
+    void testAsync() throws Exception {
+        var registry = ServiceRegistryManager.create().registry();
+        var mySlowService = registry.get(AsyncExample.MySlowService.class);
+        var scopes = registry.get(Scopes.class);
+
+        try (Scope ignored = scopes.createScope(CustomScopeExample.MyScope.TYPE, "test-1", Map.of())) {
+            var requestId = registry.get(AsyncExample.MyRequestContext.class).id;
+            long start = System.nanoTime();
+            var futures = new ArrayList<CompletableFuture<String>>();
+            for (int i = 0; i < 20; i++) {
+                futures.add(mySlowService.fetch("key-" + i).toCompletableFuture());
+            }
+            var legacy = mySlowService.fetchLegacy("legacy");
+            for (int i = 0; i < 20; i++) {
+                assertThat(futures.get(i).get(10, TimeUnit.SECONDS), is("key-%d@%s".formatted(i, requestId)));
+            }
+            assertThat(legacy.get(10, TimeUnit.SECONDS), is("legacy@" + requestId));
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // the 21 calls overlap, sequential calls would take 21 times the latency
+            assertThat(elapsed, greaterThanOrEqualTo(AsyncExample.MySlowServiceImpl.LATENCY));
+            assertThat(elapsed, lessThan(5 * AsyncExample.MySlowServiceImpl.LATENCY));
+        }
+    }
+
+    @Test
+    void testAsyncFailures() {
+        var registry = ServiceRegistryManager.create().registry();
+        var mySlowService = registry.get(AsyncExample.MySlowService.class);
+
+        // the method throws
+        var stage = mySlowService.fetch(" ").toCompletableFuture();
+        var ex = assertThrows(ExecutionException.class, () -> stage.get(10, TimeUnit.SECONDS));
+        assertThat(ex.getCause().getClass(), is(IllegalArgumentException.class));
+        assertThat(ex.getCause().getMessage(), is("Blank key"));
+
+        // the returned future fails, its ExecutionException is not wrapped again
+        var legacy = mySlowService.fetchLegacy(" ");
+        ex = assertThrows(ExecutionException.class, () -> legacy.get(10, TimeUnit.SECONDS));
+        assertThat(ex.getCause().getClass(), is(IllegalArgumentException.class));
+        assertThat(ex.getCause().getMessage(), is("Blank key"));
+    }
+
+    @Test
+    void testBulkhead() {
+        var registry = ServiceRegistryManager.create().registry();
+        var myBackend = registry.get(BulkheadExample.MyBackend.class);
+        var interceptor = registry.get(BulkheadExample.BulkheadInterceptor.class);
+
+        // overload: 100 concurrent calls, 4 permits and 8 queued calls
+        var rejected = new AtomicInteger();
+        var latencies = new ConcurrentHashMap<Integer, Long>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 100; i++) {
+                int request = i;
+                executor.submit(() -> {
+                    long start = System.nanoTime();
+                    try {
+                        myBackend.call("request-" + request);
+                        latencies.put(request, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    } catch (BulkheadExample.BulkheadFullException ex) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+        }
+
+        var limiter = interceptor.limiter(BulkheadExample.MyBackend.class, "call").orElseThrow();
+        assertThat(myBackend.maxConcurrency.get(), lessThanOrEqualTo(4));
+        assertThat(limiter.maxInFlight(), lessThanOrEqualTo(4));
+        assertThat(latencies.size() + rejected.get(), is(100));
+        assertThat(limiter.rejected(), is((long) rejected.get()));
+        assertThat(rejected.get(), greaterThan(0));
+        // an accepted call waits at most for the queued calls ahead of it
+        long maxLatency = latencies.values().stream().mapToLong(Long::longValue).max().orElseThrow();
+        assertThat(maxLatency, lessThan(10 * BulkheadExample.MyBackend.LATENCY));
+    }
+
+    @Test
+    void testBulkheadAdaptive() throws InterruptedException {
+        var registry = ServiceRegistryManager.create().registry();
+        var myAdaptiveBackend = registry.get(BulkheadExample.MyAdaptiveBackend.class);
+        var interceptor = registry.get(BulkheadExample.BulkheadInterceptor.class);
+
+        var limits = new ArrayList<Integer>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 32; i++) {
+                int client = i;
+                executor.submit(() -> {
+                    for (int j = 0; j < 20; j++) {
+                        myAdaptiveBackend.call("request-%d-%d".formatted(client, j));
+                    }
+                    return null;
+                });
+            }
+            executor.shutdown();
+            while (!executor.awaitTermination(10, TimeUnit.MILLISECONDS)) {
+                interceptor.limiter(BulkheadExample.MyAdaptiveBackend.class, "call")
+                        .ifPresent(limiter -> limits.add(limiter.limit()));
+            }
+        }
+
+        // under load the latency grows past the capacity of the downstream, the limit converges towards it
+        assertThat(limits.isEmpty(), is(false));
+        assertThat(limits.stream().sorted().toList().get(limits.size() / 2), lessThan(16));
+        var limiter = interceptor.limiter(BulkheadExample.MyAdaptiveBackend.class, "call").orElseThrow();
+        assertThat(limiter.rejected(), is(0L));
+    }
+
+    @Test
+    void testBulkheadBackoff() throws InterruptedException {
+        var limiter = new BulkheadExample.Limiter("test", 10, 0, true);
+
+        // business failures and interrupts do not change the limit
+        for (var failure : List.of(new IllegalArgumentException(), new InterruptedException())) {
+            limiter.acquire();
+            limiter.release(1000, failure);
+            assertThat(limiter.limit(), is(10));
+        }
+
+        // timeouts and rejections are overloads of the downstream, also when wrapped
+        limiter.acquire();
+        limiter.release(1000, new TimeoutException());
+        assertThat(limiter.limit(), is(9));
+        limiter.acquire();
+        limiter.release(1000, new ExecutionException(new RejectedExecutionException()));
+        assertThat(limiter.limit(), is(8));
+    }
+
+    @Test
+    void testBulkheadInterceptionShapes() {
+        var registry = ServiceRegistryManager.create().registry();
+        var interceptor = registry.get(BulkheadExample.BulkheadInterceptor.class);
+
+        registry.get(BulkheadShapes.Concrete.class).sayHello("Joe");
+        registry.get(BulkheadShapes.Contract.class).sayHello("Julia");
+        registry.get(BulkheadShapes.AbstractContract.class).sayHello("Jessica");
+        registry.get(BulkheadShapes.SuppliedContract.class).sayHello("Jennifer");
+        registry.get(BulkheadShapes.DelegateContract.class).sayHello("Joceline");
+
+        for (var serviceType : List.of(BulkheadShapes.Concrete.class,
+                BulkheadShapes.ContractImpl.class,
+                BulkheadShapes.AbstractContractImpl.class,
+                BulkheadShapes.SuppliedContractProvider.class,
+                BulkheadShapes.DelegateContractProvider.class)) {
+            var limiter = interceptor.limiter(serviceType, "sayHello").orElseThrow();
+            assertThat(limiter.maxInFlight(), is(1));
+        }
+    }
+
+    @Test
+    void testCached() {
+        var ticker = new AtomicLong();
+        var config = ServiceRegistryConfig.builder()
+                .putContractInstance(CachedExample.Ticker.class, (CachedExample.Ticker) ticker::get)
+                .build();
+        var registry = ServiceRegistryManager.create(config).registry();
+        var myGreeter = registry.get(CachedExample.MyGreeter.class);
+        var myGreeterImpl = registry.get(CachedExample.MyGreeterImpl.class);
+        var interceptor = registry.get(CachedExample.CachingInterceptor.class);
+
+        assertThat(myGreeter.sayHello("Joe"), is("Hello Joe!"));
+        assertThat(myGreeter.sayHello("Joe"), is("Hello Joe!"));
+        assertThat(myGreeter.sayHello("Jack"), is("Hello Jack!"));
+        assertThat(myGreeterImpl.invocations.sum(), is(2L));
+        var cache = interceptor.cache(CachedExample.MyGreeterImpl.class, "sayHello").orElseThrow();
+        assertThat(cache.hits(), is(1L));
+        assertThat(cache.misses(), is(2L));
+
+        assertThat(myGreeter.sayGoodbye("Joe"), is("Goodbye Joe!"));
+        assertThat(myGreeter.sayGoodbye("Joe"), is("Goodbye Joe!"));
+        assertThat(myGreeterImpl.invocations.sum(), is(3L));
+        ticker.addAndGet(TimeUnit.MILLISECONDS.toNanos(49));
+        assertThat(myGreeter.sayGoodbye("Joe"), is("Goodbye Joe!"));
+        assertThat(myGreeterImpl.invocations.sum(), is(3L));
+        // expired
+        ticker.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(myGreeter.sayGoodbye("Joe"), is("Goodbye Joe!"));
+        assertThat(myGreeterImpl.invocations.sum(), is(4L));
+    }
+
+    @Test
+    void testCachedFrequencyAdmission() throws Exception {
+        var cache = new CachedExample.BoundedCache<Integer, Integer>(100, Duration.ZERO);
+        // a scan of cold keys, interleaved with hot keys
+        for (int i = 0; i < 10_000; i++) {
+            int cold = 1000 + i;
+            int hot = i % 10;
+            cache.get(cold, () -> cold);
+            cache.get(hot, () -> hot);
+        }
+        assertThat(cache.size(), lessThanOrEqualTo(100));
+        for (int hot = 0; hot < 10; hot++) {
+            assertThat(cache.contains(hot), is(true));
+        }
+        assertThat(cache.hits(), is(10_000L - 10));
+        assertThat(cache.evictions(), greaterThan(0L));
+    }
+
+    @Test
+    void testCachedArgumentsKey() {
+        var key = new CachedExample.ArgumentsKey(new Object[] {"Joe", new String[] {"Jack", "Jill"}});
+        var equal = new CachedExample.ArgumentsKey(new Object[] {"Joe", new String[] {"Jack", "Jill"}});
+        var other = new CachedExample.ArgumentsKey(new Object[] {"Joe", new String[] {"Jack"}});
+
+        assertThat(key, is(equal));
+        assertThat(key.hashCode(), is(equal.hashCode()));
+        assertThat(key, is(not(other)));
+        assertThat(key.toString(), is("[Joe, [Jack, Jill]]"));
+    }
+
+    @Test
+    void testFastInterceptor() throws Exception {
+        var registry = ServiceRegistryManager.create().registry();
+        var myCounter = registry.get(FastInterceptorExample.MyCounter.class);
+        var myFastCounter = registry.get(FastInterceptorExample.MyFastCounter.class);
+        var interceptor = registry.get(FastInterceptorExample.CountingInterceptor.class);
+
+        assertThat(myCounter.min("Joe", "Jack"), is("Jack"));
+        assertThat(myCounter.increment(41), is(42L));
+        assertThat(interceptor.invocations.sum(), is(2L));
+
+        assertThat(myFastCounter.hello(), is("Hello!"));
+        assertThat(myFastCounter.min("Joe", "Jack"), is("Jack"));
+        assertThat(myFastCounter.increment(41), is(42L));
+        assertThat(interceptor.invocations.sum(), is(5L));
+
+        // a chain with an interceptor that only supports the generic form falls back to an arguments array
+        var invoked = new ArrayList<List<Object>>();
+        Interception.Interceptor generic = new Interception.Interceptor() {
+            @Override
+            public <V> V proceed(InterceptionContext ctx, Chain<V> chain, Object... args) throws Exception {
+                invoked.add(List.of(args));
+                return chain.proceed(args);
+            }
+        };
+        var serviceInfo = registry.lookupServices(Lookup.create(FastInterceptorExample.MyFastCounter.class)).getFirst();
+        var ctx = FastInterceptorExample.Invokers.context(serviceInfo, "concat",
+                TypeNames.STRING, TypeNames.STRING, TypeNames.STRING, TypeNames.STRING);
+        FastInterceptorExample.Invoker3<String, String, String, String> concat = (a, b, c) -> a + b + c;
+        var invoker = FastInterceptorExample.Invokers.chain3(ctx, List.of(interceptor, generic), concat);
+        assertThat(invoker.invoke("a", "b", "c"), is("abc"));
+        assertThat(invoked, is(List.of(List.of("a", "b", "c"))));
+        assertThat(interceptor.invocations.sum(), is(6L));
+    }
+
     @Test
     void testNamedByType() {
         var registry = ServiceRegistryManager.create().registry();
@@ -77,6 +451,17 @@ class InjectExampleTest {
         assertThat(greenCircle.color().hexCode(), is("008000"));
     }
 
+    @Test
+    void testNamedByTypeIndex() {
+        var registry = ServiceRegistryManager.create().registry();
+        var index = registry.get(NamedExample.NameIndex.class);
+        var blue = index.get(NamedByTypeExample.Color.class, NamedByTypeExample.Blue.class);
+        var green = index.get(NamedByTypeExample.Color.class, NamedByTypeExample.Green.class);
+
+        assertThat(blue.hexCode(), is("0000FF"));
+        assertThat(green.hexCode(), is("008000"));
+    }
+
     @Test
     void testNamed() {
         var registry = ServiceRegistryManager.create().registry();
@@ -87,6 +472,34 @@ class InjectExampleTest {
         assertThat(greenCircle.color().hexCode(), is("008000"));
     }
 
+    @Test
+    void testNamedIndex() {
+        var registry = ServiceRegistryManager.create().registry();
+        var index = registry.get(NamedExample.NameIndex.class);
+
+        assertThat(index.get(NamedExample.Color.class, "blue").hexCode(), is("0000FF"));
+        assertThat(index.get(NamedExample.Color.class, "green").hexCode(), is("008000"));
+        assertThat(index.service(NamedExample.Color.class, "red").isPresent(), is(false));
+    }
+
+    @Test
+    void testNamedIndexWildcard() {
+        var registry = ServiceRegistryManager.create().registry();
+        var index = registry.get(NamedExample.NameIndex.class);
+
+        assertThat(index.get(NamedServices.Shape.class, "circle"), instanceOf(NamedServices.Circle.class));
+        assertThat(index.get(NamedServices.Shape.class, "square"), instanceOf(NamedServices.AnyShape.class));
+        assertThat(index.get(NamedServices.Shape.class, "triangle"), instanceOf(NamedServices.AnyShape.class));
+        for (var name : List.of("circle", "square", "triangle")) {
+            var lookup = Lookup.builder()
+                    .addContract(NamedServices.Shape.class)
+                    .addQualifier(Qualifier.createNamed(name))
+                    .build();
+            assertThat(index.service(NamedServices.Shape.class, name),
+                       is(registry.lookupServices(lookup).stream().findFirst()));
+        }
+    }
+
     @Test
     void testWeighted() {
         var registry = ServiceRegistryManager.create().registry();
@@ -95,6 +508,60 @@ class InjectExampleTest {
         assertThat(color.name(), is("green"));
     }
 
+    @Test
+    void testWeightedCache() {
+        var registry = ServiceRegistryManager.create().registry();
+        var cache = registry.get(WeightedExample.WinnerCache.class);
+        var color = cache.get(WeightedExample.Color.class);
+
+        assertThat(color.name(), is("green"));
+        assertThat(cache.get(WeightedExample.Color.class), is(sameInstance(color)));
+        assertThat(color, is(sameInstance(registry.get(WeightedExample.Color.class))));
+    }
+
+    @Test
+    void testQualifierIndex() {
+        var registry = ServiceRegistryManager.create().registry();
+        var index = registry.get(CustomQualifierExample.QualifierIndex.class);
+
+        var blue = index.get(CustomQualifierExample.Color.class,
+                Qualifier.create(CustomQualifierExample.HexCode.class, "0000FF"));
+        var green = index.get(CustomQualifierExample.Color.class,
+                Qualifier.create(CustomQualifierExample.HexCode.class, "008000"));
+
+        assertThat(blue.name(), is("blue"));
+        assertThat(green.name(), is("green"));
+    }
+
+    @Test
+    void testQualifierIndexScaling() {
+        var registryManager = QualifiedColors.registryManager();
+        var registry = registryManager.registry();
+        var index = new CustomQualifierExample.QualifierIndex(registry);
+
+        try {
+            for (int i = 1; i <= QualifiedColors.SIZE; i++) {
+                var qualifier = Qualifier.create(CustomQualifierExample.HexCode.class, QualifiedColors.hexCode(i));
+                var services = index.services(QualifiedColors.QualifiedColor.class, qualifier);
+
+                assertThat(services.size(), is(1));
+                assertThat(services.getFirst().serviceType().className(), is("Color" + i));
+                if (i % 100 == 0) {
+                    // a lookup of the registry filters all the implementations, compare a sample
+                    var lookup = Lookup.builder()
+                            .addContract(QualifiedColors.QualifiedColor.class)
+                            .addQualifier(qualifier)
+                            .build();
+                    assertThat(services, is(registry.lookupServices(lookup)));
+                }
+            }
+            var unknown = Qualifier.create(CustomQualifierExample.HexCode.class, "unknown");
+            assertThat(index.services(QualifiedColors.QualifiedColor.class, unknown), is(List.of()));
+        } finally {
+            registryManager.shutdown();
+        }
+    }
+
     @Test
     void testPerInstance() {
         var registry = ServiceRegistryManager.create().registry();
@@ -178,6 +645,76 @@ class InjectExampleTest {
         assertThat(RunLevelExample.STARTUP_EVENTS, hasItems("level1", "level2"));
     }
 
+    @Test
+    void testRunLevelIndex() {
+        var registry = ServiceRegistryManager.create().registry();
+        var index = RunLevelExample.RunLevelIndex.create(registry);
+
+        assertThat(index.runLevels(), hasItems(1d, 2d));
+        assertThat(index.runLevels(), is(index.runLevels().stream().sorted().toList()));
+
+        var level1 = index.services(1).stream().map(ServiceInfo::serviceType).toList();
+        assertThat(level1, hasItem(TypeName.create(RunLevelExample.Level1.class)));
+        assertThat(level1, not(hasItem(TypeName.create(RunLevelExample.Level2.class))));
+    }
+
+    @Test
+    void testRunLevelParallel() {
+        var registry = ServiceRegistryManager.create().registry();
+        // the services only start if they are activated concurrently
+        var services = List.of(
+                registry.lookupServices(Lookup.create(RunLevelServices.Concurrent1.class)).getFirst(),
+                registry.lookupServices(Lookup.create(RunLevelServices.Concurrent2.class)).getFirst());
+        var index = new RunLevelExample.RunLevelIndex(List.of(1d), Map.of(1d, services));
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            RunLevelExample.startRunLevels(registry, index, executor);
+        }
+        assertThat(registry.get(RunLevelServices.Rendezvous.class).completed(), is(true));
+    }
+
+    @Test
+    void testRunLevelParallelFailures() {
+        var registry = ServiceRegistryManager.create().registry();
+        // Failing1 is slower, it fails after Failing2
+        var services = List.of(
+                registry.lookupServices(Lookup.create(RunLevelServices.Failing1.class)).getFirst(),
+                registry.lookupServices(Lookup.create(RunLevelServices.Failing2.class)).getFirst());
+        var index = new RunLevelExample.RunLevelIndex(List.of(1d), Map.of(1d, services));
+        IllegalStateException error;
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            error = assertThrows(IllegalStateException.class,
+                    () -> RunLevelExample.startRunLevels(registry, index, executor));
+        }
+        var messages = Arrays.stream(error.getSuppressed()).map(Throwable::getMessage).toList();
+        assertThat(messages, is(List.of(
+                "Failed to start " + services.get(0).serviceType(),
+                "Failed to start " + services.get(1).serviceType())));
+    }
+
+    @Test
+    void testRunLevelAsync() {
+        var registry = ServiceRegistryManager.create().registry();
+        RunLevelExample.startRunLevels(registry);
+
+        var events = RunLevelExample.STARTUP_EVENTS;
+        assertThat(events, hasItems("async-level1", "level2"));
+        assertThat(events.indexOf("async-level1"), is(lessThan(events.indexOf("level2"))));
+    }
+
+    @Test
+    void testRunLevelAsyncDeadline() {
+        var registry = ServiceRegistryManager.create().registry();
+        var services = List.of(
+                registry.lookupServices(Lookup.create(RunLevelServices.NeverStarted.class)).getFirst());
+        var index = new RunLevelExample.RunLevelIndex(List.of(1d), Map.of(1d, services));
+        var deadline = Duration.ofMillis(100);
+
+        var error = assertThrows(IllegalStateException.class,
+                () -> RunLevelExample.startRunLevels(registry, index, Runnable::run, deadline));
+        assertThat(error.getMessage(), is("Run level 1.0 did not start within PT0.1S"));
+        assertThat(error.getCause().getClass(), is(TimeoutException.class));
+    }
+
     @Test
     void testGenerics() {
         var registry = ServiceRegistryManager.create().registry();
@@ -188,6 +725,22 @@ class InjectExampleTest {
         assertThat(myService.circleNames(), is(List.of("blue circle", "green circle")));
     }
 
+    @Test
+    void testGenericResolver() {
+        var registry = ServiceRegistryManager.create().registry();
+        var resolver = registry.get(GenericsExample.GenericResolver.class);
+
+        var blueCircles = resolver.all(new GenericType<GenericsExample.Circle<GenericsExample.Blue>>() { });
+        assertThat(blueCircles.stream().map(GenericsExample.Circle::name).toList(), is(List.of("blue circle")));
+
+        var circles = resolver.all(new GenericType<GenericsExample.Circle<GenericsExample.Color>>() { });
+        assertThat(circles.stream().map(GenericsExample.Circle::name).toList(),
+                containsInAnyOrder("blue circle", "green circle"));
+
+        var greenCircle = resolver.supply(new GenericType<GenericsExample.Circle<GenericsExample.Green>>() { });
+        assertThat(greenCircle.get().name(), is("green circle"));
+    }
+
     @Test
     void testCovariance() {
         var registry = ServiceRegistryManager.create().registry();
@@ -203,26 +756,413 @@ class InjectExampleTest {
         assertThat(dogs, is(List.of("Boxer", "Husky")));
     }
 
+    @Test
+    void testCovarianceIndex() {
+        var registry = ServiceRegistryManager.create().registry();
+        var petIndex = registry.get(CovarianceExample.PetIndex.class);
+
+        var all = petIndex.all(CovarianceExample.Pet.class).stream().map(CovarianceExample.Pet::name).toList();
+        assertThat(all, is(List.of("Bengal", "Boxer", "Husky", "Siamese")));
+
+        var cats = petIndex.all(CovarianceExample.Cat.class).stream().map(CovarianceExample.Cat::name).toList();
+        assertThat(cats, is(List.of("Bengal", "Siamese")));
+
+        var dogs = petIndex.all(CovarianceExample.Dog.class).stream().map(CovarianceExample.Dog::name).toList();
+        assertThat(dogs, is(List.of("Boxer", "Husky")));
+    }
+
     @Test
     void testEvents() {
+        var registryManager = ServiceRegistryManager.create();
+        try {
+            var registry = registryManager.registry();
+            var myEmitter = registry.get(EventsExample.MyEmitter.class);
+            var myObserver = registry.get(EventsExample.MyObserver.class);
+            var myIdEmitter = registry.get(EventsExample.MyIdEmitter.class);
+            var myIdObserver = registry.get(EventsExample.MyIdObserver.class);
+            var myNameEmitter = registry.get(EventsExample.MyNameEmitter.class);
+            var myNameObserver = registry.get(EventsExample.MyNameObserver.class);
+
+            myEmitter.emit("foo");
+            myEmitter.emit("bar");
+            assertThat(myObserver.messages, is(List.of("foo", "bar")));
+
+            myIdEmitter.emit("123");
+            myIdEmitter.emit("456");
+            assertThat(myIdObserver.ids, is(List.of("123", "456")));
+
+            myNameEmitter.emit("Jack");
+            myNameEmitter.emit("Jill");
+            assertThat(myNameObserver.names, is(List.of("Jack", "Jill")));
+        } finally {
+            registryManager.shutdown();
+        }
+    }
+
+    @Test
+    void testEventsAsync() {
         var registry = ServiceRegistryManager.create().registry();
-        var myEmitter = registry.get(EventsExample.MyEmitter.class);
+        var myAsyncEmitter = registry.get(EventsExample.MyAsyncEmitter.class);
+        var myAsyncObserver = registry.get(EventsExample.MyAsyncObserver.class);
+
+        myAsyncEmitter.emit("foo").toCompletableFuture().join();
+        myAsyncEmitter.emit("bar").toCompletableFuture().join();
+        assertThat(myAsyncObserver.messages, is(List.of("foo", "bar")));
+    }
+
+    @Test
+    void testEventsDispatchTable() {
+        var registry = ServiceRegistryManager.create().registry();
+        var myIdDispatcher = registry.get(EventsExample.MyIdDispatcher.class);
+        var myIdListener = registry.get(EventsExample.MyIdListener.class);
+
+        myIdDispatcher.emit("123");
+        myIdDispatcher.emit("456");
+        assertThat(myIdListener.ids, is(List.of("123", "456")));
+    }
+
+    @Test
+    void testEventsBatch() {
+        var registry = ServiceRegistryManager.create().registry();
+        var myIdDispatcher = registry.get(EventsExample.MyIdDispatcher.class);
+        var myIdListener = registry.get(EventsExample.MyIdListener.class);
+
+        myIdDispatcher.emitAll(List.of("123", "456"));
+        myIdDispatcher.emit("789");
+        assertThat(myIdListener.ids, is(List.of("123", "456", "789")));
+
+        var events = new ArrayList<String>();
+        var batches = new ArrayList<List<String>>();
+        var table = new EventsExample.DispatchTable<>(List.of(new EventsExample.Listener<String>() {
+            @Override
+            public void on(String event) {
+                events.add(event);
+            }
+
+            @Override
+            public void onAll(List<String> batch) {
+                batches.add(batch);
+            }
+        }));
+        table.dispatchAll(List.of("123", "456", "789"));
+        assertThat(batches, is(List.of(List.of("123", "456", "789"))));
+        assertThat(events, is(List.of()));
+    }
+
+    @Test
+    void testEventsQueue() {
+        var registryManager = ServiceRegistryManager.create();
+        try {
+            var registry = registryManager.registry();
+            var myNameEmitter = registry.get(EventsExample.MyNameEmitter.class);
+            var myQueuedNameObserver = registry.get(EventsExample.MyQueuedNameObserver.class);
+            var queue = myQueuedNameObserver.queue;
+
+            var maxDepth = new AtomicInteger();
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < 100; i++) {
+                    int emitter = i;
+                    executor.submit(() -> {
+                        for (int j = 0; j < 1000; j++) {
+                            myNameEmitter.emit("name-%d-%d".formatted(emitter, j));
+                            maxDepth.accumulateAndGet(queue.depth(), Math::max);
+                        }
+                    });
+                }
+            }
+            queue.close();
+
+            assertThat(myQueuedNameObserver.names.size(), is(100_000));
+            assertThat(queue.dropped(), is(0L));
+            assertThat(maxDepth.get(), is(lessThanOrEqualTo(queue.capacity())));
+        } finally {
+            registryManager.shutdown();
+        }
+    }
+
+    @Test
+    void testEventsQueueDropNewest() {
+        var events = new ArrayList<String>();
+        var latch = new CountDownLatch(1);
+        try (var queue = new EventsExample.EventQueue<String>(2, EventsExample.OverflowPolicy.DROP_NEWEST, event -> {
+            awaitUninterruptibly(latch);
+            events.add(event);
+        })) {
+            for (int i = 0; i < 10; i++) {
+                queue.on("event-" + i);
+            }
+            assertThat(queue.dropped(), is(greaterThan(0L)));
+            latch.countDown();
+        }
+        assertThat(events, hasItem("event-0"));
+        assertThat(events.size(), is(lessThanOrEqualTo(3)));
+    }
+
+    @Test
+    void testEventsPartitionedOrdering() {
+        var received = new ConcurrentHashMap<String, List<Integer>>();
+        var listener = new EventsExample.PartitionedListener<EventsExample.MyOrderEvent>(8, 16,
+                EventsExample.MyOrderEvent::key,
+                event -> received.computeIfAbsent(event.key(), k -> new ArrayList<>()).add(event.sequence()));
+        var expected = IntStream.range(0, 1000).boxed().toList();
+        try (listener; var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 100; i++) {
+                var key = "order-" + i;
+                executor.submit(() -> expected.forEach(seq -> listener.on(new EventsExample.MyOrderEvent(key, seq))));
+            }
+        }
+
+        assertThat(received.size(), is(100));
+        received.forEach((key, sequence) -> assertThat(key, sequence, is(expected)));
+    }
+
+    @Test
+    void testEventsPartitioned() {
+        var registryManager = ServiceRegistryManager.create();
+        try {
+            var registry = registryManager.registry();
+            var myOrderEmitter = registry.get(EventsExample.MyOrderEmitter.class);
+            var myPartitionedObserver = registry.get(EventsExample.MyPartitionedObserver.class);
+
+            var expected = IntStream.range(0, 100).boxed().toList();
+            // interleave the keys
+            for (int seq : expected) {
+                for (var key : List.of("foo", "bar", "baz")) {
+                    myOrderEmitter.emit(key, seq);
+                }
+            }
+            myPartitionedObserver.listener.close();
+
+            assertThat(myPartitionedObserver.sequences, is(Map.of(
+                    "foo", expected,
+                    "bar", expected,
+                    "baz", expected)));
+        } finally {
+            registryManager.shutdown();
+        }
+    }
+
+    @Test
+    void testEventMetrics() {
+        var registryManager = ServiceRegistryManager.create();
+        try {
+            var registry = registryManager.registry();
+            var myEmitter = registry.get(EventsExample.MyEmitter.class);
+            var myNameEmitter = registry.get(EventsExample.MyNameEmitter.class);
+            var eventMetrics = registry.get(EventsExample.EventMetrics.class);
+
+            myEmitter.emit("foo");
+            myEmitter.emit("bar");
+            myNameEmitter.emit("Jack");
+
+            var snapshots = eventMetrics.snapshot(EventsExample.MyObservedObserver.class);
+            assertThat(snapshots.size(), is(1));
+            var snapshot = snapshots.getFirst();
+            assertThat(snapshot.key(), is(new EventsExample.ObserverKey(
+                    TypeName.create(EventsExample.MyEvent.class), "",
+                    EventsExample.MyObservedObserver.class.getName() + ".event")));
+            assertThat(snapshot.emits(), is(2L));
+            assertThat(snapshot.errors(), is(0L));
+            assertThat(snapshot.latency().count(), is(2L));
+
+            var nameSnapshot = eventMetrics.snapshot(EventsExample.MyObservedNameObserver.class).getFirst();
+            assertThat(nameSnapshot.key().qualifier(), is("name"));
+            assertThat(nameSnapshot.emits(), is(1L));
+
+            // the observers that are not annotated with @Observed are not intercepted
+            assertThat(eventMetrics.snapshot(EventsExample.MyObserver.class), is(List.of()));
+        } finally {
+            registryManager.shutdown();
+        }
+    }
+
+    @Test
+    void testLatencyHistogram() {
+        var histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        var snapshot = histogram.snapshot();
+        assertThat(snapshot.count(), is(1000L));
+        assertThat(snapshot.percentile(50), greaterThanOrEqualTo(500L));
+        assertThat(snapshot.percentile(50), lessThan(532L));
+        assertThat(snapshot.percentile(100), greaterThanOrEqualTo(1000L));
+        assertThat(snapshot.percentile(100), lessThan(1064L));
+        assertThat(new LatencyHistogram().snapshot().percentile(99), is(0L));
+    }
+
+    @Test
+    void testElementRegistry() {
+        var created = new AtomicInteger();
+        var registry = new ElementRegistry<Integer>((serviceType, element) -> created.incrementAndGet());
+        var myService = TypeName.create(InterceptorExample.MyConcreteService.class);
+        var myOtherService = TypeName.create(EventsExample.MyObserver.class);
+        var sayHello = TypedElementInfo.builder()
+                .kind(ElementKind.METHOD)
+                .elementName("sayHello")
+                .typeName(TypeNames.STRING)
+                .build();
+        // equal, but a different instance
+        var sayHelloCopy = TypedElementInfo.builder().from(sayHello).build();
+
+        assertThat(registry.get(myService, sayHello), is(1));
+        assertThat(registry.get(myService, sayHello), is(1));
+        assertThat(registry.get(myOtherService, sayHello), is(2));
+        assertThat(registry.get(myService, sayHelloCopy), is(1));
+        assertThat(registry.find(EventsExample.MyObserver.class, "sayHello"), is(Optional.of(2)));
+        assertThat(registry.find(EventsExample.MyObserver.class, "sayGoodbye"), is(Optional.empty()));
+        assertThat(created.get(), is(2));
+    }
+
+    @Test
+    void testEventJournalReplay(@TempDir Path directory) {
+        var config = ServiceRegistryConfig.builder()
+                .putContractInstance(EventJournalExample.JournalConfig.class,
+                        new EventJournalExample.MyJournalConfig(directory, 1024))
+                .build();
+
+        var registryManager = ServiceRegistryManager.create(config);
+        var registry = registryManager.registry();
+        registry.get(EventJournalExample.MyJournaledEmitter.class).emit("foo");
+        registry.get(EventJournalExample.MyJournaledIdEmitter.class).emit("123");
+        registryManager.shutdown();
+
+        registry = ServiceRegistryManager.create(config).registry();
         var myObserver = registry.get(EventsExample.MyObserver.class);
-        var myIdEmitter = registry.get(EventsExample.MyIdEmitter.class);
         var myIdObserver = registry.get(EventsExample.MyIdObserver.class);
-        var myNameEmitter = registry.get(EventsExample.MyNameEmitter.class);
-        var myNameObserver = registry.get(EventsExample.MyNameObserver.class);
+        registry.get(EventJournalExample.MyJournaledEmitter.class).emit("bar");
+        registry.get(EventJournalExample.MyJournaledIdEmitter.class).emit("456");
 
-        myEmitter.emit("foo");
-        myEmitter.emit("bar");
         assertThat(myObserver.messages, is(List.of("foo", "bar")));
+        assertThat(myIdObserver.ids, is(List.of("123", "456")));
+    }
+
+    @Test
+    void testEventJournalSegments(@TempDir Path directory) throws IOException {
+        var expected = IntStream.range(0, 100).mapToObj("event-%d"::formatted).toList();
+        try (var journal = new EventJournalExample.EventJournal(directory, 64)) {
+            expected.forEach(event -> journal.append(EventJournalExample.Codec.STRING.encode(event)));
+        }
+
+        try (var segments = Files.list(directory)) {
+            assertThat(segments.count(), is(greaterThan(1L)));
+        }
+
+        var events = new ArrayList<String>();
+        try (var journal = new EventJournalExample.EventJournal(directory, 64)) {
+            journal.append(EventJournalExample.Codec.STRING.encode("event-100"));
+            journal.replay(payload -> events.add(EventJournalExample.Codec.STRING.decode(payload)));
+        }
+        var all = new ArrayList<>(expected);
+        all.add("event-100");
+        assertThat(events, is(all));
+    }
+
+    @Test
+    void testEventBridge(@TempDir Path directory) throws IOException, InterruptedException {
+        var file = directory.resolve("event-bridge");
+        var config = ServiceRegistryConfig.builder()
+                .putContractInstance(EventBridgeExample.BridgeConfig.class,
+                        new EventBridgeExample.MyBridgeConfig(file, 1024 * 1024))
+                .build();
+        var registryManager = ServiceRegistryManager.create(config);
+        var registry = registryManager.registry();
+        var bridge = registry.get(EventBridgeExample.MyEventBridge.class);
+        var myObserver = registry.get(EventsExample.MyObserver.class);
+        var myIdObserver = registry.get(EventsExample.MyIdObserver.class);
+
+        var process = new ProcessBuilder(
+                ProcessHandle.current().info().command().orElse("java"),
+                "-cp", System.getProperty("java.class.path"),
+                EventBridgeExample.class.getName(),
+                file.toString(),
+                "100")
+                .inheritIO()
+                .start();
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (bridge.received() < 200 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(process.waitFor(30, TimeUnit.SECONDS), is(true));
+        } finally {
+            process.destroy();
+            registryManager.shutdown();
+        }
+
+        var expected = IntStream.range(0, 100).mapToObj(i -> process.pid() + "-" + i).toList();
+        assertThat(bridge.received(), is(200L));
+        assertThat(myObserver.messages, is(expected));
+        assertThat(myIdObserver.ids, is(expected));
+    }
+
+    @Test
+    void testEventBridgeDisabled() {
+        var registry = ServiceRegistryManager.create().registry();
+        var bridge = registry.get(EventBridgeExample.MyEventBridge.class);
+        var myEmitter = registry.get(EventsExample.MyEmitter.class);
+        var myIdEmitter = registry.get(EventsExample.MyIdEmitter.class);
+        var myObserver = registry.get(EventsExample.MyObserver.class);
+        var myIdObserver = registry.get(EventsExample.MyIdObserver.class);
 
+        myEmitter.emit("foo");
         myIdEmitter.emit("123");
-        myIdEmitter.emit("456");
-        assertThat(myIdObserver.ids, is(List.of("123", "456")));
+        assertThat(bridge.enabled(), is(false));
+        assertThat(myObserver.messages, is(List.of("foo")));
+        assertThat(myIdObserver.ids, is(List.of("123")));
+    }
 
-        myNameEmitter.emit("Jack");
-        myNameEmitter.emit("Jill");
-        assertThat(myNameObserver.names, is(List.of("Jack", "Jill")));
+    @Test
+    void testEventBridgeLappedSubscriber(@TempDir Path directory) throws InterruptedException {
+        var ring = new EventBridgeExample.SharedRing(directory.resolve("event-bridge"), 16 * 1024);
+        var subscription = ring.subscribe();
+        var publisher = Thread.ofPlatform().start(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                // variable lengths, the records of a lap are not aligned with the records of the previous lap
+                var payload = new byte[1 + i % 97];
+                Arrays.fill(payload, (byte) i);
+                ring.publish(i, payload.length, payload);
+                if (i % 100 == 0) {
+                    // let the subscriber run on a single CPU
+                    Thread.yield();
+                }
+            }
+        });
+
+        var received = new AtomicLong();
+        var torn = new AtomicLong();
+        var last = new AtomicLong(-1);
+        EventBridgeExample.SharedRing.RecordHandler handler = (origin, length, payload) -> {
+            received.incrementAndGet();
+            boolean valid = payload.remaining() == length && origin > last.getAndSet(origin);
+            while (payload.hasRemaining()) {
+                valid &= payload.get() == (byte) origin;
+            }
+            if (!valid) {
+                torn.incrementAndGet();
+            }
+        };
+        while (publisher.isAlive()) {
+            if (subscription.poll(handler) && received.get() % 1000 == 0) {
+                // fall behind, to be lapped by the publisher
+                Thread.sleep(1);
+            }
+        }
+        while (subscription.poll(handler)) {
+            Thread.onSpinWait();
+        }
+        ring.close();
+
+        assertThat(torn.get(), is(0L));
+        assertThat(received.get(), is(greaterThan(0L)));
+        assertThat(subscription.lost(), is(greaterThan(0L)));
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
     }
 }
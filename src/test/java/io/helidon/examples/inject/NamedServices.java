@@ -0,0 +1,45 @@
+package io.helidon.examples.inject;
+
+import io.helidon.common.Weight;
+import io.helidon.service.registry.Service;
+
+/**
+ * Named services used to test the named lookups of {@link NamedExample.NameIndex} with a wildcard name.
+ */
+final class NamedServices {
+
+    private NamedServices() {
+    }
+
+    /**
+     * A contract with a service named {@value Service.Named#WILDCARD_NAME}.
+     */
+    interface Shape {
+    }
+
+    /**
+     * A named service with a higher weight than {@link AnyShape}.
+     */
+    @Weight(200)
+    @Service.Named("circle")
+    @Service.Singleton
+    static class Circle implements Shape {
+    }
+
+    /**
+     * A named service with a lower weight than {@link AnyShape}.
+     */
+    @Weight(50)
+    @Service.Named("square")
+    @Service.Singleton
+    static class Square implements Shape {
+    }
+
+    /**
+     * A service that matches any name.
+     */
+    @Service.Named(Service.Named.WILDCARD_NAME)
+    @Service.Singleton
+    static class AnyShape implements Shape {
+    }
+}
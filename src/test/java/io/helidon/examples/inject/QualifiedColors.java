@@ -0,0 +1,95 @@
+package io.helidon.examples.inject;
+
+import java.util.Set;
+
+import io.helidon.common.types.ResolvedType;
+import io.helidon.common.types.TypeName;
+import io.helidon.service.registry.Qualifier;
+import io.helidon.service.registry.Service;
+import io.helidon.service.registry.ServiceDescriptor;
+import io.helidon.service.registry.ServiceRegistryConfig;
+import io.helidon.service.registry.ServiceRegistryManager;
+
+/**
+ * Qualified services used to test qualified lookups with many implementations.
+ * The services are described programmatically and registered in a dedicated registry, the registries of the other
+ * tests do not contain them.
+ */
+final class QualifiedColors {
+
+    /**
+     * Number of qualified implementations of {@link QualifiedColor}.
+     */
+    static final int SIZE = 10_000;
+
+    private static final TypeName CONTRACT = TypeName.create(QualifiedColor.class);
+
+    private QualifiedColors() {
+    }
+
+    /**
+     * Get the hex code qualifier value of an implementation.
+     *
+     * @param index index of the implementation, from {@code 1} to {@value #SIZE}
+     * @return hex code
+     */
+    static String hexCode(int index) {
+        return "F%05X".formatted(index);
+    }
+
+    /**
+     * Create a registry manager with only the {@value #SIZE} implementations of {@link QualifiedColor}.
+     *
+     * @return registry manager
+     */
+    static ServiceRegistryManager registryManager() {
+        var config = ServiceRegistryConfig.builder()
+                .discoverServices(false);
+        for (int i = 1; i <= SIZE; i++) {
+            config.addServiceDescriptor(new Descriptor(i));
+        }
+        return ServiceRegistryManager.create(config.build());
+    }
+
+    /**
+     * A contract with {@value #SIZE} implementations, qualified with {@link CustomQualifierExample.HexCode} from
+     * {@code F00001} to {@code F02710}.
+     */
+    interface QualifiedColor {
+    }
+
+    /**
+     * The descriptor of an implementation, named {@code Color<index>}.
+     *
+     * @param serviceType service type
+     * @param qualifiers  qualifiers
+     */
+    private record Descriptor(TypeName serviceType, Set<Qualifier> qualifiers)
+            implements ServiceDescriptor<QualifiedColor> {
+
+        Descriptor(int index) {
+            this(TypeName.builder()
+                         .packageName(CONTRACT.packageName())
+                         .className("Color" + index)
+                         .build(),
+                 Set.of(Qualifier.create(CustomQualifierExample.HexCode.class, hexCode(index))));
+        }
+
+        @Override
+        public TypeName descriptorType() {
+            return TypeName.builder(serviceType)
+                    .className(serviceType.className() + "__ServiceDescriptor")
+                    .build();
+        }
+
+        @Override
+        public Set<ResolvedType> contracts() {
+            return Set.of(ResolvedType.create(CONTRACT));
+        }
+
+        @Override
+        public TypeName scope() {
+            return Service.Singleton.TYPE;
+        }
+    }
+}
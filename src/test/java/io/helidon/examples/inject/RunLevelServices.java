@@ -0,0 +1,138 @@
+package io.helidon.examples.inject;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.service.registry.Service;
+
+/**
+ * Services used to test the startup of run levels.
+ * They have no run level, the tests start them with a dedicated {@link RunLevelExample.RunLevelIndex}.
+ */
+final class RunLevelServices {
+
+    private RunLevelServices() {
+    }
+
+    /**
+     * A rendezvous of the services that must be activated concurrently.
+     */
+    @Service.Singleton
+    static class Rendezvous {
+
+        /**
+         * Number of services that must arrive at the rendezvous.
+         */
+        static final int PARTIES = 2;
+
+        /**
+         * Maximum time to wait for the other services, in seconds.
+         */
+        static final long TIMEOUT = 10;
+
+        private final CountDownLatch latch = new CountDownLatch(PARTIES);
+
+        /**
+         * Arrive at the rendezvous, and wait for the other services.
+         *
+         * @throws IllegalStateException if the other services do not arrive within the timeout
+         */
+        void arrive() {
+            latch.countDown();
+            try {
+                if (!latch.await(TIMEOUT, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Services were not activated concurrently");
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        /**
+         * Whether all the services arrived at the rendezvous.
+         *
+         * @return {@code true} if all the services arrived
+         */
+        boolean completed() {
+            return latch.getCount() == 0;
+        }
+    }
+
+    /**
+     * A service that can only be activated concurrently with {@link Concurrent2}.
+     */
+    @Service.Singleton
+    static class Concurrent1 {
+
+        private final Rendezvous rendezvous;
+
+        Concurrent1(Rendezvous rendezvous) {
+            this.rendezvous = rendezvous;
+        }
+
+        @Service.PostConstruct
+        void onCreate() {
+            rendezvous.arrive();
+        }
+    }
+
+    /**
+     * A service that can only be activated concurrently with {@link Concurrent1}.
+     */
+    @Service.Singleton
+    static class Concurrent2 {
+
+        private final Rendezvous rendezvous;
+
+        Concurrent2(Rendezvous rendezvous) {
+            this.rendezvous = rendezvous;
+        }
+
+        @Service.PostConstruct
+        void onCreate() {
+            rendezvous.arrive();
+        }
+    }
+
+    /**
+     * A service that fails to start, after {@link Failing2}.
+     */
+    @Service.Singleton
+    static class Failing1 {
+
+        @Service.PostConstruct
+        void onCreate() throws InterruptedException {
+            TimeUnit.MILLISECONDS.sleep(50);
+            throw new IllegalStateException("failing1");
+        }
+    }
+
+    /**
+     * A service that fails to start.
+     */
+    @Service.Singleton
+    static class Failing2 {
+
+        @Service.PostConstruct
+        void onCreate() {
+            throw new IllegalStateException("failing2");
+        }
+    }
+
+    /**
+     * A service whose asynchronous startup never completes.
+     */
+    @Service.Singleton
+    static class NeverStarted implements RunLevelExample.AsyncStartup {
+
+        private final CompletableFuture<?> started = new CompletableFuture<>();
+
+        @Override
+        public CompletionStage<?> started() {
+            return started;
+        }
+    }
+}